@@ -23,6 +23,10 @@ USE `cu202507`;
 CREATE TABLE IF NOT EXISTS `admin_job_lock` (
   `job_name` varchar(100) NOT NULL,
   `locked_at` datetime NOT NULL DEFAULT current_timestamp(),
+  `paused` tinyint(1) NOT NULL DEFAULT 0,
+  `lease_owner` varchar(128) DEFAULT NULL,
+  `lease_until` datetime(3) DEFAULT NULL,
+  `fencing_token` bigint(20) NOT NULL DEFAULT 0,
   PRIMARY KEY (`job_name`)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
 
@@ -37,6 +41,9 @@ CREATE TABLE IF NOT EXISTS `admin_job_run` (
   `finished_at` datetime DEFAULT NULL,
   `status` enum('RUNNING','SUCCESS','FAILED') NOT NULL DEFAULT 'RUNNING',
   `note` text DEFAULT NULL,
+  `progress_done` bigint(20) NOT NULL DEFAULT 0,
+  `checkpoint` varchar(255) DEFAULT NULL,
+  `updated_at` datetime DEFAULT NULL,
   PRIMARY KEY (`run_id`),
   KEY `idx_job_started` (`job_name`,`started_at`)
 ) ENGINE=InnoDB AUTO_INCREMENT=2203 DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
@@ -59,11 +66,13 @@ CREATE TABLE IF NOT EXISTS `articlev2` (
   `word` varchar(255) DEFAULT NULL,
   `category_code` varchar(255) DEFAULT NULL,
   `image_url` varchar(255) DEFAULT NULL,
+  `canonical_article_id` int(11) DEFAULT NULL,
   PRIMARY KEY (`article_id`),
   UNIQUE KEY `article_url` (`article_url`),
   KEY `idx_articlev2_category_code` (`category_code`),
   KEY `idx_articlev2_cat_pub` (`category_code`,`published_at`),
-  KEY `ix_articlev2_cat_art` (`category_code`,`article_id`)
+  KEY `ix_articlev2_cat_art` (`category_code`,`article_id`),
+  KEY `ix_articlev2_canonical` (`canonical_article_id`)
 ) ENGINE=InnoDB AUTO_INCREMENT=74 DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
 
 -- 내보낼 데이터가 선택되어 있지 않습니다.
@@ -88,13 +97,19 @@ CREATE TABLE IF NOT EXISTS `article_processed_content_v2` (
   `processed_content_id` int(11) NOT NULL AUTO_INCREMENT,
   `article_id` int(11) NOT NULL,
   `processed_text` text NOT NULL,
+  `processed_tokens` text DEFAULT NULL,
   `processed_at` datetime DEFAULT current_timestamp(),
+  `kw_claimed_by` varchar(64) DEFAULT NULL,
+  `kw_claimed_until` datetime(3) DEFAULT NULL,
+  `kw_pending` tinyint(1) NOT NULL DEFAULT 1,
   PRIMARY KEY (`processed_content_id`),
   UNIQUE KEY `article_id` (`article_id`),
   UNIQUE KEY `uq_apc_v2_article_id` (`article_id`),
   KEY `idx_apc_v2_article_processed` (`article_id`,`processed_at`),
   KEY `ix_apc_v2_processed_at` (`processed_at`),
   KEY `ix_apc_v2_article_id` (`article_id`),
+  KEY `ix_apc_v2_kw_claimed_by` (`kw_claimed_by`),
+  KEY `ix_apc_v2_kw_pending` (`kw_pending`,`processed_content_id`),
   CONSTRAINT `fk_apc_v2_article` FOREIGN KEY (`article_id`) REFERENCES `articlev2` (`article_id`) ON DELETE CASCADE
 ) ENGINE=InnoDB AUTO_INCREMENT=374 DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
 
@@ -233,6 +248,8 @@ CREATE TABLE IF NOT EXISTS `user_read_history` (
   `article_id` int(11) NOT NULL,
   `read_at` datetime DEFAULT current_timestamp(),
   PRIMARY KEY (`history_id`),
+  UNIQUE KEY `ux_read_history_user_article` (`user_id`,`article_id`),
+  KEY `ix_read_history_user_readat` (`user_id`,`read_at`,`history_id`),
   KEY `fk_read_history_user_id` (`user_id`),
   KEY `fk_user_read_history_articlev2` (`article_id`),
   CONSTRAINT `fk_read_history_user_id` FOREIGN KEY (`user_id`) REFERENCES `user` (`user_id`) ON DELETE CASCADE,
@@ -258,7 +275,8 @@ CREATE TABLE IF NOT EXISTS `word_definition` (
   `definition_id` bigint(20) NOT NULL AUTO_INCREMENT,
   `definition` text NOT NULL,
   `word` varchar(255) NOT NULL,
-  PRIMARY KEY (`definition_id`)
+  PRIMARY KEY (`definition_id`),
+  UNIQUE KEY `ux_word_definition_word` (`word`)
 ) ENGINE=InnoDB AUTO_INCREMENT=210935 DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
 
 -- 내보낼 데이터가 선택되어 있지 않습니다.
@@ -0,0 +1,10 @@
+-- admin_job_lock: 작업 임대(lease) + 펜싱 토큰 (JobLeaseService)
+-- 기존에는 행이 있으면 "일시정지"였다. 이제 같은 행을 임대에도 쓰므로 일시정지는 paused 컬럼으로 구분한다.
+ALTER TABLE admin_job_lock
+  ADD COLUMN paused TINYINT(1) NOT NULL DEFAULT 0,
+  ADD COLUMN lease_owner VARCHAR(128) NULL,
+  ADD COLUMN lease_until DATETIME(3) NULL,
+  ADD COLUMN fencing_token BIGINT NOT NULL DEFAULT 0;
+
+-- 마이그레이션 이전 행은 모두 일시정지 표시였다
+UPDATE admin_job_lock SET paused = 1;
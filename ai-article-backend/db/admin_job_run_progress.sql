@@ -0,0 +1,6 @@
+-- admin_job_run: 장기 작업 진행 상황 기록 (ChunkedPurger / AdminRunLogger.progress)
+-- progress_done: 지금까지 처리한 건수, checkpoint: 재개 지점("대상@다음 PK"), updated_at: 마지막 진행 기록 시각
+ALTER TABLE admin_job_run
+  ADD COLUMN progress_done BIGINT NOT NULL DEFAULT 0,
+  ADD COLUMN checkpoint VARCHAR(255) NULL,
+  ADD COLUMN updated_at DATETIME NULL;
@@ -0,0 +1,7 @@
+-- article_processed_content_v2: 키워드 백로그 claim (V2PipelineService.computeAndStoreTfidf)
+-- 워커는 UPDATE ... ORDER BY ... LIMIT 한 문장으로 행을 claim 하고, claim id로 다시 읽어 처리한다.
+-- kw_claimed_until이 지나면(워커 중단 / 재시도 대기 종료) 다른 워커가 다시 가져갈 수 있다.
+ALTER TABLE article_processed_content_v2
+  ADD COLUMN kw_claimed_by VARCHAR(64) NULL,
+  ADD COLUMN kw_claimed_until DATETIME(3) NULL,
+  ADD KEY ix_apc_v2_kw_claimed_by (kw_claimed_by);
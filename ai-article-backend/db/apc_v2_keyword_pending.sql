@@ -0,0 +1,14 @@
+-- article_processed_content_v2: 키워드 대기 플래그 (V2PipelineService.claimBacklog)
+-- 백로그 claim/건수 집계가 extracted_keyword_v2 NOT EXISTS 탐색으로 처리 끝난 행까지 훑지 않도록
+-- 새 행은 기본값 1(대기)로 들어오고, 키워드를 저장하거나 원문을 다시 전처리해도 본문이 비어 있으면 0으로 내린다.
+-- 키워드 정리(cleanupOlderThanHours)로 ek가 지워진 오래된 행도 0으로 남아 다시 분석되지 않는다.
+-- 적용 순서: db/apc_v2_keyword_claim.sql 이후
+ALTER TABLE article_processed_content_v2
+  ADD COLUMN kw_pending TINYINT(1) NOT NULL DEFAULT 1,
+  ADD KEY ix_apc_v2_kw_pending (kw_pending, processed_content_id);
+
+-- 이미 키워드가 있는 행과 유사 중복 기사 행은 대기에서 뺀다
+UPDATE article_processed_content_v2 p
+SET p.kw_pending = 0
+WHERE EXISTS (SELECT 1 FROM extracted_keyword_v2 ek WHERE ek.processed_content_id = p.processed_content_id)
+   OR EXISTS (SELECT 1 FROM articlev2 a WHERE a.article_id = p.article_id AND a.canonical_article_id IS NOT NULL);
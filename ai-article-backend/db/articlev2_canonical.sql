@@ -0,0 +1,8 @@
+-- articlev2: 유사 중복(SimHash) 기사 표시 (ArticleServiceV2.createArticle / NearDuplicateIndex)
+-- NULL이면 원본 기사, 값이 있으면 해당 article_id 기사의 분석 결과를 재사용한 중복 기사이다.
+ALTER TABLE articlev2
+  ADD COLUMN canonical_article_id INT NULL;
+
+-- 키워드 파이프라인/중복 인덱스 적재가 원본 기사만 골라 읽는다
+ALTER TABLE articlev2
+  ADD KEY ix_articlev2_canonical (canonical_article_id);
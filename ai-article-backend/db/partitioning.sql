@@ -0,0 +1,53 @@
+-- 시간 기반 파티션 (PartitionMaintenanceService / PartitionScheduler)
+-- 적용 전 주의:
+--  * MariaDB 파티션 테이블은 외래 키를 가질 수 없어 아래 FK를 제거한다.
+--    extracted_keyword_v2 → article_processed_content_v2 의 ON DELETE CASCADE가 없어지므로
+--    apc를 지울 때는 ek를 먼저 지워야 한다(AdminService 재실행/정리 경로는 이미 그 순서).
+--  * 파티션 키는 모든 PK/UNIQUE 키에 포함되어야 해서 키 구성을 바꾼다.
+--  * 기존 행을 새 구조로 복사하므로 한가한 시간에 실행한다.
+--  * spring.jpa.hibernate.ddl-auto=update 와 함께 써도 된다: 두 엔티티의 연관관계는
+--    ConstraintMode.NO_CONSTRAINT 라 Hibernate가 FK를 다시 만들려 하지 않고,
+--    엔티티의 uq_cat_kw_window(4컬럼)는 파티션 키(window_start)를 포함한다.
+
+-- 1) category_keyword_trend_snapshot: TO_DAYS(window_start) 일 단위 RANGE + pmax
+--    window_start는 이미 uq_cat_kw_window에 들어 있으므로 유니크 키(중복 윈도우 방지)를 그대로 유지한다.
+--    generated_at으로 나누면 유니크 키에 generated_at을 넣어야 해서 중복 방지가 무의미해진다.
+--    pmax가 있어 미래 파티션 생성이 밀려도(일시정지/장애) INSERT는 실패하지 않는다.
+--    애플리케이션이 기동 시/매일 pmax를 잘라 앞으로 aheadDays일치 날짜 파티션을 만든다.
+ALTER TABLE category_keyword_trend_snapshot DROP FOREIGN KEY fk_trend_kw;
+ALTER TABLE category_keyword_trend_snapshot
+  DROP PRIMARY KEY,
+  ADD PRIMARY KEY (snapshot_id, window_start);
+
+SET @ddl = CONCAT(
+  'ALTER TABLE category_keyword_trend_snapshot PARTITION BY RANGE (TO_DAYS(window_start)) (',
+  'PARTITION p_history VALUES LESS THAN (', TO_DAYS(CURDATE() + INTERVAL 1 DAY), '), ',
+  'PARTITION pmax VALUES LESS THAN MAXVALUE)');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 2) extracted_keyword_v2: processed_content_id RANGE + pmax
+--    (processed_content_id, keyword_id) 업서트 키를 유지하려고 시각 대신 단조 증가 ID로 나눈다.
+--    애플리케이션이 매일 pmax를 잘라 "그날까지 처리된 행" 파티션을 만든다.
+ALTER TABLE extracted_keyword_v2
+  DROP FOREIGN KEY fk_ekv2_apc,
+  DROP FOREIGN KEY fk_ekv2_keyword_id;
+ALTER TABLE extracted_keyword_v2
+  DROP PRIMARY KEY,
+  ADD PRIMARY KEY (extracted_keyword_id, processed_content_id);
+
+SELECT COALESCE(MAX(processed_content_id), 0) + 1 INTO @ek_boundary FROM extracted_keyword_v2;
+SET @ddl = CONCAT(
+  'ALTER TABLE extracted_keyword_v2 PARTITION BY RANGE (processed_content_id) (',
+  'PARTITION p_history VALUES LESS THAN (', @ek_boundary, '), ',
+  'PARTITION pmax VALUES LESS THAN MAXVALUE)');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 확인
+-- SELECT TABLE_NAME, PARTITION_NAME, PARTITION_DESCRIPTION, TABLE_ROWS
+-- FROM information_schema.PARTITIONS
+-- WHERE TABLE_SCHEMA = DATABASE()
+--   AND TABLE_NAME IN ('category_keyword_trend_snapshot', 'extracted_keyword_v2');
@@ -0,0 +1,2 @@
+-- 북마크 목록: WHERE user_id = ? AND bookmark_id < ? ORDER BY bookmark_id DESC (keyset 페이지네이션)
+CREATE INDEX ix_user_bookmark_user_id_bookmark ON user_bookmark (user_id, bookmark_id);
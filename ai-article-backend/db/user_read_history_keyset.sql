@@ -0,0 +1,2 @@
+-- 읽은 기록 목록: WHERE user_id = ? ORDER BY read_at DESC, history_id DESC (keyset 페이지네이션)
+CREATE INDEX ix_read_history_user_readat ON user_read_history (user_id, read_at, history_id);
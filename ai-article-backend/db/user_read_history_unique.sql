@@ -0,0 +1,18 @@
+-- user_read_history: (user_id, article_id) 당 한 행만 유지 (write-behind batch upsert용)
+-- 1) 기존 중복 행 정리: 가장 최근 read_at만 남긴다
+UPDATE user_read_history h
+JOIN (
+  SELECT user_id, article_id, MAX(read_at) AS last_read_at
+  FROM user_read_history
+  GROUP BY user_id, article_id
+  HAVING COUNT(*) > 1
+) d ON d.user_id = h.user_id AND d.article_id = h.article_id
+SET h.read_at = d.last_read_at;
+
+DELETE h FROM user_read_history h
+JOIN user_read_history k
+  ON k.user_id = h.user_id AND k.article_id = h.article_id AND k.history_id > h.history_id;
+
+-- 2) 유니크 키 추가 (INSERT ... ON DUPLICATE KEY UPDATE 대상)
+ALTER TABLE user_read_history
+  ADD UNIQUE KEY ux_read_history_user_article (user_id, article_id);
@@ -0,0 +1,5 @@
+-- 전처리 단계(V2PipelineService.processNewArticles)가 정제 본문과 함께 내용어 토큰을 저장한다.
+-- ddl-auto=update면 컬럼이 자동으로 추가된다. 스키마 자동 갱신을 끈 환경에서만 직접 실행한다.
+
+ALTER TABLE article_processed_content_v2
+  ADD COLUMN processed_tokens TEXT NULL AFTER processed_text;
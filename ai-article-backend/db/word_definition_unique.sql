@@ -0,0 +1,10 @@
+-- word_definition: 단어 단위 인덱스 조회 (DictionaryService.find / findAll)
+-- utf8mb4_general_ci collation이므로 유니크 키 자체가 대소문자를 구분하지 않는다.
+-- 1) 같은 단어(대소문자 무시) 중복 행은 가장 먼저 들어온 행만 남긴다
+DELETE d FROM word_definition d
+JOIN word_definition k
+  ON k.word = d.word AND k.definition_id < d.definition_id;
+
+-- 2) 유니크 키 추가
+ALTER TABLE word_definition
+  ADD UNIQUE KEY ux_word_definition_word (word);
@@ -0,0 +1,51 @@
+package com.team.aiarticle.ai_article_backend.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 벤치마크 공용 픽스처 (src/jmh/resources/fixtures).
+ * - news-article.html: 포털 뉴스 본문 페이지 (스크립트/메뉴/추천 기사 포함)
+ * - ai-analysis.json: AI 서버 분석 결과가 articlev2.word/definition에 저장된 형태
+ */
+public final class Fixtures {
+    private Fixtures() {}
+
+    private static final ObjectMapper OM = new ObjectMapper();
+
+    public static String newsHtml() {
+        return read("fixtures/news-article.html");
+    }
+
+    public static JsonNode aiAnalysis() {
+        try {
+            return OM.readTree(read("fixtures/ai-analysis.json"));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** 운영과 같은 사용자 복합명사 사전(src/main/resources/nlp/user.dic) */
+    public static List<String> userDictionary() {
+        return Arrays.stream(read("nlp/user.dic").split("\\R"))
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .toList();
+    }
+
+    private static String read(String path) {
+        try (InputStream in = Fixtures.class.getClassLoader().getResourceAsStream(path)) {
+            if (in == null) throw new IllegalStateException("fixture not found: " + path);
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
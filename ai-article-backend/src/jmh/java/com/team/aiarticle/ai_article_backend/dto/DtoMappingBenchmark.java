@@ -0,0 +1,92 @@
+package com.team.aiarticle.ai_article_backend.dto;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team.aiarticle.ai_article_backend.benchmark.Fixtures;
+import com.team.aiarticle.ai_article_backend.entity.ArticleV2;
+import com.team.aiarticle.ai_article_backend.nlp.HtmlExtractor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기사 상세/목록 응답 변환 핫패스.
+ * word/definition 컬럼은 AI 서버 응답을 JSON 문자열로 저장한 값(ai-analysis.json)을 그대로 쓴다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DtoMappingBenchmark {
+
+    private String wordJson;
+    private String wordCsv;
+    private Map<String, String> definitions;
+    private List<String> keywords;
+    private ArticleV2 article;
+
+    @Setup
+    public void setup() throws Exception {
+        JsonNode analysis = Fixtures.aiAnalysis();
+        wordJson = analysis.get("word").asText();
+        wordCsv = analysis.get("wordCsv").asText();
+        definitions = new ObjectMapper().readValue(analysis.get("definition").asText(), new TypeReference<>() {});
+        keywords = ArticleSummaryResponse.parseKeywords(wordJson);
+
+        article = new ArticleV2();
+        article.setArticleId(5123456);
+        article.setArticleUrl("https://n.news.naver.com/mnews/article/001/0005123456");
+        article.setTitle("삼성전자, 인공지능모델 전용 반도체 양산 앞당긴다");
+        article.setContent(new HtmlExtractor().toPlainText(Fixtures.newsHtml()));
+        article.setPublisher("연합뉴스");
+        article.setPublishedAt(LocalDateTime.of(2025, 10, 14, 9, 12, 3));
+        article.setContentCrawledAt(LocalDateTime.of(2025, 10, 14, 9, 20, 0));
+        article.setIsFullContentCrawled(true);
+        article.setImage_url("https://imgnews.pstatic.net/image/001/2025/10/14/PYH2025101400010001300_P4.jpg");
+        article.setSummarize(analysis.get("summary").asText());
+        article.setCategoryCode("101");
+        article.setWord(wordJson);
+        article.setDefinition(analysis.get("definition").asText());
+    }
+
+    @Benchmark
+    public List<String> parseKeywordsJson() {
+        return ArticleSummaryResponse.parseKeywords(wordJson);
+    }
+
+    // 예전 데이터처럼 쉼표/줄바꿈 구분 문자열이면 JSON 파싱 실패 후 split 경로를 탄다
+    @Benchmark
+    public List<String> parseKeywordsCsvFallback() {
+        return ArticleSummaryResponse.parseKeywords(wordCsv);
+    }
+
+    @Benchmark
+    public Map<String, String> normalizeDefinitions() {
+        return ArticleSummaryResponse.normalizeDefinitions(definitions, keywords);
+    }
+
+    @Benchmark
+    public ArticleSummaryResponse summaryFromEntity() {
+        return ArticleSummaryResponse.fromEntity(article);
+    }
+
+    @Benchmark
+    public ArticleListResponse listResponseFrom() {
+        return ArticleListResponse.from(article, "경제비즈니스");
+    }
+}
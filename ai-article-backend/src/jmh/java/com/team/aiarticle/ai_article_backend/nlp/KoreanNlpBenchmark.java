@@ -0,0 +1,78 @@
+package com.team.aiarticle.ai_article_backend.nlp;
+
+import com.team.aiarticle.ai_article_backend.benchmark.Fixtures;
+import kr.co.shineware.nlp.komoran.constant.DEFAULT_MODEL;
+import kr.co.shineware.nlp.komoran.core.Komoran;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 전처리/키워드 단계 NLP 핫패스.
+ * KoreanNlpService는 스프링 없이 만들기 때문에 app.nlp.provider가 비어 있어 Komoran 경로를 탄다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class KoreanNlpBenchmark {
+
+    private HtmlExtractor htmlExtractor;
+    private KoreanNlpService nlp;
+    private String html;
+    private String rawText;
+    private String plainText;
+    private List<String> morphemes;
+    private Set<String> compoundDict;
+
+    @Setup
+    public void setup() {
+        // FULL 모델 적재는 수 초 걸리므로 트라이얼당 한 번만
+        Komoran komoran = new Komoran(DEFAULT_MODEL.FULL);
+        htmlExtractor = new HtmlExtractor();
+        html = Fixtures.newsHtml();
+        plainText = htmlExtractor.toPlainText(html);
+        // 크롤러가 넘기는 본문처럼 NBSP/제어문자/연속 공백이 섞인 입력
+        rawText = plainText.replace(". ", ".  \r\n\t ").replace("다.", "다.\u0007");
+
+        // 복합명사 병합 전 형태소 열을 먼저 만들어 두고, 그 다음 사전을 적재한다
+        nlp = new KoreanNlpService(komoran, null);
+        morphemes = nlp.extractContentTokens(plainText);
+        compoundDict = new HashSet<>(Fixtures.userDictionary());
+        nlp.loadUserCompoundNouns(compoundDict);
+    }
+
+    @Benchmark
+    public String htmlToPlainText() {
+        return htmlExtractor.toPlainText(html);
+    }
+
+    @Benchmark
+    public String normalize() {
+        return nlp.normalize(rawText);
+    }
+
+    @Benchmark
+    public List<String> extractContentTokens() {
+        return nlp.extractContentTokens(plainText);
+    }
+
+    @Benchmark
+    public List<String> mergeCompoundNouns() {
+        return KoreanNlpService.mergeCompoundNouns(morphemes, compoundDict);
+    }
+}
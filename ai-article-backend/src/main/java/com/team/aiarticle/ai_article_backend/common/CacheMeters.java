@@ -0,0 +1,31 @@
+package com.team.aiarticle.ai_article_backend.common;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Map;
+
+/**
+ * 직접 만든 인메모리 캐시의 적중률 메트릭.
+ * Micrometer 캐시 규약(cache.gets{result=hit|miss}, cache.size)을 따라 Spring Cache 메트릭과 같은 대시보드에서 본다.
+ */
+public final class CacheMeters {
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public CacheMeters(MeterRegistry registry, String cacheName, Map<?, ?> cache) {
+        this.hits = Counter.builder("cache.gets").tag("cache", cacheName).tag("result", "hit").register(registry);
+        this.misses = Counter.builder("cache.gets").tag("cache", cacheName).tag("result", "miss").register(registry);
+        Gauge.builder("cache.size", cache, Map::size).tag("cache", cacheName).register(registry);
+    }
+
+    public void hit() {
+        hits.increment();
+    }
+
+    public void miss() {
+        misses.increment();
+    }
+}
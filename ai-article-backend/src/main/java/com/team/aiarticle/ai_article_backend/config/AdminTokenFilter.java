@@ -11,7 +11,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
 
 /**
- * 어드민 스케줄 제어 API에 대해 X-Admin-Token 헤더를 검증한다.
+ * 어드민 스케줄 제어 API와 Actuator 엔드포인트(/actuator/health 제외)에 대해 X-Admin-Token 헤더를 검증한다.
  */
 public class AdminTokenFilter extends OncePerRequestFilter {
 
@@ -25,6 +25,10 @@ public class AdminTokenFilter extends OncePerRequestFilter {
     protected boolean shouldNotFilter(HttpServletRequest request) {
         String uri = request.getRequestURI();
         // 아래 경로에만 토큰 검증 적용
+        if (uri.startsWith("/actuator")) {
+            // 헬스 체크(로드밸런서/오케스트레이터)만 공개, metrics/prometheus/info는 토큰 필요
+            return uri.equals("/actuator/health") || uri.startsWith("/actuator/health/");
+        }
         return !(uri.startsWith("/admin/schedule/") || uri.startsWith("/api/admin/schedule/"));
     }
 
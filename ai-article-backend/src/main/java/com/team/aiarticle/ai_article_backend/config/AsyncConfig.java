@@ -1,10 +1,100 @@
 package com.team.aiarticle.ai_article_backend.config;
 
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 작업 성격별 전용 스레드 풀.
+ * - adminDbExecutor: 백필/스냅샷/정리 같은 관리자 DB 유지보수 (@Async 기본 풀)
+ * - aiExecutor: AI 서버를 호출하는 키워드 재분석
+ * - crawlExecutor: 사용자 요청 크롤링 큐 (CrawlJobService)
+ * 모든 풀은 대기열 길이가 제한되어 있고, 가득 차면 TaskRejectedException으로 즉시 거절한다.
+ * 종료 시에는 실행 중/대기 중 작업을 awaitSeconds 동안 기다린 뒤 내려간다.
+ */
+@Slf4j
 @Configuration
 @EnableAsync
-public class AsyncConfig {
-    // 필요 시 @Bean ThreadPoolTaskExecutor 등록 가능
+public class AsyncConfig implements AsyncConfigurer {
+
+    public static final String ADMIN_DB_EXECUTOR = "adminDbExecutor";
+    public static final String AI_EXECUTOR = "aiExecutor";
+    public static final String CRAWL_EXECUTOR = "crawlExecutor";
+
+    @Value("${app.async.shutdown.awaitSeconds:30}")
+    private int awaitSeconds;
+
+    @Value("${app.async.adminDb.threads:2}")
+    private int adminDbThreads;
+
+    @Value("${app.async.adminDb.queueCapacity:10}")
+    private int adminDbQueueCapacity;
+
+    @Value("${app.async.ai.threads:1}")
+    private int aiThreads;
+
+    @Value("${app.async.ai.queueCapacity:2}")
+    private int aiQueueCapacity;
+
+    @Value("${crawler.queue.concurrency:2}")
+    private int crawlThreads;
+
+    @Value("${crawler.queue.capacity:50}")
+    private int crawlQueueCapacity;
+
+    @Bean(name = ADMIN_DB_EXECUTOR)
+    public ThreadPoolTaskExecutor adminDbExecutor() {
+        return build("admin-db-", adminDbThreads, adminDbQueueCapacity);
+    }
+
+    @Bean(name = AI_EXECUTOR)
+    public ThreadPoolTaskExecutor aiExecutor() {
+        return build("ai-", aiThreads, aiQueueCapacity);
+    }
+
+    @Bean(name = CRAWL_EXECUTOR)
+    public ThreadPoolTaskExecutor crawlExecutor() {
+        return build("crawl-job-", crawlThreads, crawlQueueCapacity);
+    }
+
+    // 이름 없는 @Async는 관리자 DB 풀로 보낸다 (스프링 기본 SimpleAsyncTaskExecutor 사용 방지)
+    @Override
+    public Executor getAsyncExecutor() {
+        return adminDbExecutor();
+    }
+
+    @Override
+    public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
+        return (ex, method, params) -> log.error("[Async] {} failed", method.getName(), ex);
+    }
+
+    private ThreadPoolTaskExecutor build(String prefix, int threads, int queueCapacity) {
+        int size = Math.max(1, threads);
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(prefix);
+        executor.setCorePoolSize(size);
+        executor.setMaxPoolSize(size);
+        executor.setQueueCapacity(Math.max(1, queueCapacity));
+        executor.setRejectedExecutionHandler(rejectAndLog(prefix));
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(Math.max(0, awaitSeconds));
+        return executor;
+    }
+
+    private static RejectedExecutionHandler rejectAndLog(String prefix) {
+        ThreadPoolExecutor.AbortPolicy abort = new ThreadPoolExecutor.AbortPolicy();
+        return (r, pool) -> {
+            log.warn("[Async] {} pool saturated: active={}, queued={}", prefix, pool.getActiveCount(), pool.getQueue().size());
+            abort.rejectedExecution(r, pool);
+        };
+    }
 }
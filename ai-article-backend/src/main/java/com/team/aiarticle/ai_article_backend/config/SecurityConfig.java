@@ -63,6 +63,9 @@ public class SecurityConfig {
                 /* 스케줄 제어 엔드포인트는 토큰 필터에서 검증 -> 여기서는 우선 허용 */
                 .requestMatchers("/admin/schedule/**", "/api/admin/schedule/**").permitAll()
 
+                /* Actuator: health만 공개, 나머지(metrics/prometheus/info)는 토큰 필터에서 검증 -> 여기서는 우선 허용 */
+                .requestMatchers("/actuator/**").permitAll()
+
                 /* 나머지 */
                 .anyRequest().permitAll()
             )
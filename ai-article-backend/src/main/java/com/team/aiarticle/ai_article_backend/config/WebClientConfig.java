@@ -28,9 +28,10 @@ public class WebClientConfig {
     @Value("${rag.api.url}")
     private String ragApiUrl;
 
+    // 정적 WebClient.builder() 대신 Boot가 관리하는 빌더를 써야 http.client.requests 메트릭이 붙는다
     @Bean
-    public WebClient webClient() {
-        return WebClient.builder().build();
+    public WebClient webClient(WebClient.Builder builder) {
+        return builder.clone().build();
     }
 
     private ExchangeFilterFunction logRequest() {
@@ -44,11 +45,11 @@ public class WebClientConfig {
 
     @Bean
     @Qualifier("ragWebClient")
-    public WebClient ragWebClient() {
+    public WebClient ragWebClient(WebClient.Builder builder) {
         HttpClient httpClient = HttpClient.create()
                 .responseTimeout(Duration.ofMillis(ragApiTimeout));
 
-        return WebClient.builder()
+        return builder.clone()
                 .baseUrl(ragApiUrl)
                 .clientConnector(new ReactorClientHttpConnector(httpClient))
                 .defaultHeader("x-api-key", ragApiKey)
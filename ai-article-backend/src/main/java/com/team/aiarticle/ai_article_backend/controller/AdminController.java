@@ -3,17 +3,23 @@ package com.team.aiarticle.ai_article_backend.controller;
 import com.team.aiarticle.ai_article_backend.dto.ManualCrawlResponse;
 import com.team.aiarticle.ai_article_backend.service.CrawlingBridgeService;
 import com.team.aiarticle.ai_article_backend.service.admin.AdminService;
+import com.team.aiarticle.ai_article_backend.service.admin.JobProgressRegistry;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -24,12 +30,27 @@ public class AdminController {
     private final AdminService adminService;
     private final CrawlingBridgeService crawlingBridgeService;
     private final JdbcTemplate jdbc;
+    private final Map<String, ThreadPoolTaskExecutor> executors;
+    private final JobProgressRegistry progress;
     private static final String TOKEN = System.getenv().getOrDefault("ADMIN_TOKEN", "1234");
 
-    public AdminController(AdminService adminService, CrawlingBridgeService crawlingBridgeService, JdbcTemplate jdbc) {
+    public AdminController(AdminService adminService, CrawlingBridgeService crawlingBridgeService, JdbcTemplate jdbc,
+                           Map<String, ThreadPoolTaskExecutor> executors, JobProgressRegistry progress) {
         this.adminService = adminService;
         this.crawlingBridgeService = crawlingBridgeService;
         this.jdbc = jdbc;
+        this.executors = executors;
+        this.progress = progress;
+    }
+
+    // 전용 풀이 가득 차 거절되면 run 기록을 FAILED로 닫고 503으로 알린다
+    private void dispatch(long runId, Runnable submit) {
+        try {
+            submit.run();
+        } catch (TaskRejectedException e) {
+            adminService.finishRun(runId, false, "rejected: executor queue full");
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Admin job queue is full, retry later");
+        }
     }
 
     private void requireToken(String token) {
@@ -56,7 +77,7 @@ public class AdminController {
     public Map<String,Object> backfill(@RequestHeader(value="X-Admin-Token", required=false) String token) {
         requireToken(token);
         long runId = adminService.startRun("backfillCategoryCodeV2", Map.of());
-        adminService.backfillCategoryCodeV2(runId);
+        dispatch(runId, () -> adminService.backfillCategoryCodeV2(runId));
         return Map.of("runId", runId, "status", "STARTED");
     }
 
@@ -68,7 +89,7 @@ public class AdminController {
     ) {
         // ...
         long runId = adminService.startRun("keywordsRerunV2", Map.of("from", from, "to", to, "force", force));
-        adminService.rerunPreprocessAndAnalyzeKeywords(runId, from, to, force);
+        dispatch(runId, () -> adminService.rerunPreprocessAndAnalyzeKeywords(runId, from, to, force));
         return ResponseEntity.ok(Map.of("status", "rerun scheduled", "run_id", runId));
     }
 
@@ -81,7 +102,7 @@ public class AdminController {
     ) {
         requireToken(token);
         long runId = adminService.startRun("buildTrendSnapshotDaily", Map.of("from", from, "to", to, "wipeExisting", wipeExisting));
-        adminService.buildTrendSnapshotDaily(runId, from, to, wipeExisting);
+        dispatch(runId, () -> adminService.buildTrendSnapshotDaily(runId, from, to, wipeExisting));
         return Map.of("runId", runId, "status", "STARTED");
     }
 
@@ -93,7 +114,7 @@ public class AdminController {
     ) {
         requireToken(token);
         long runId = adminService.startRun("cleanupOlderThanHours", Map.of("hours", hours, "snapshotsOnly", snapshotsOnly));
-        adminService.cleanupOlderThanHours(runId, hours, snapshotsOnly);
+        dispatch(runId, () -> adminService.cleanupOlderThanHours(runId, hours, snapshotsOnly));
         return Map.of("runId", runId, "status", "STARTED");
     }
 
@@ -110,4 +131,44 @@ public class AdminController {
             LIMIT ?
         """, limit);
     }
+
+    // 작업 풀별 현재 상태 (활성 스레드/대기열 깊이/남은 용량)
+    @GetMapping("/executors")
+    public Map<String, Map<String, Object>> executors(
+            @RequestHeader(value="X-Admin-Token", required=false) String token
+    ) {
+        requireToken(token);
+        Map<String, Map<String, Object>> out = new LinkedHashMap<>();
+        executors.forEach((name, executor) -> {
+            var pool = executor.getThreadPoolExecutor();
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("poolSize", pool.getPoolSize());
+            stats.put("maxPoolSize", pool.getMaximumPoolSize());
+            stats.put("active", pool.getActiveCount());
+            stats.put("queued", pool.getQueue().size());
+            stats.put("queueRemaining", pool.getQueue().remainingCapacity());
+            stats.put("completed", pool.getCompletedTaskCount());
+            out.put(name, stats);
+        });
+        return out;
+    }
+
+    // 실행 중/최근 종료 작업의 처리 건수, 처리율, ETA, 오류율
+    @GetMapping("/progress")
+    public List<Map<String, Object>> progress(
+            @RequestHeader(value="X-Admin-Token", required=false) String token
+    ) {
+        requireToken(token);
+        return progress.snapshot();
+    }
+
+    // EventSource는 헤더를 못 보내므로 토큰을 쿼리로도 받는다
+    @GetMapping(value = "/progress/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter progressStream(
+            @RequestHeader(value="X-Admin-Token", required=false) String token,
+            @RequestParam(value="token", required=false) String tokenParam
+    ) {
+        requireToken(token != null ? token : tokenParam);
+        return progress.subscribe();
+    }
 }
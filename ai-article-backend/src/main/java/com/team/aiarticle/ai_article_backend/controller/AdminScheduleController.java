@@ -1,5 +1,6 @@
 package com.team.aiarticle.ai_article_backend.controller;
 
+import com.team.aiarticle.ai_article_backend.scheduler.AdminJobs;
 import com.team.aiarticle.ai_article_backend.service.admin.AdminJobGate;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Value;
@@ -35,14 +36,13 @@ public class AdminScheduleController {
     @GetMapping("/jobs")
     public List<String> jobs(HttpServletRequest req) {
         checkToken(req);
-        return List.of("process_new_articles", "analyze_keywords");
+        return AdminJobs.ALL;
     }
 
     @GetMapping("/status/{jobKey}")
     public Map<String, Object> status(@PathVariable String jobKey, HttpServletRequest req) {
         checkToken(req);
-        boolean paused = gate.isPaused(jobKey);
-        return Map.of("job", jobKey, "paused", paused);
+        return gate.status(jobKey);
     }
 
     @PostMapping("/pause/{jobKey}")
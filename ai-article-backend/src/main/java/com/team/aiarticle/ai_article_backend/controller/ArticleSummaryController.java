@@ -3,14 +3,15 @@ package com.team.aiarticle.ai_article_backend.controller;
 import com.team.aiarticle.ai_article_backend.dto.ArticleIngestRequest;
 import com.team.aiarticle.ai_article_backend.dto.ArticleListResponse;
 import com.team.aiarticle.ai_article_backend.dto.ArticleSummaryResponse;
-import com.team.aiarticle.ai_article_backend.dto.ManualCrawlResponse;
 import com.team.aiarticle.ai_article_backend.entity.ArticleV2;
 import com.team.aiarticle.ai_article_backend.repository.ArticleV2Repository;
 import com.team.aiarticle.ai_article_backend.service.ArticleServiceV2;
 import com.team.aiarticle.ai_article_backend.service.ArticleSummaryService;
-import com.team.aiarticle.ai_article_backend.service.CrawlingBridgeService;
+import com.team.aiarticle.ai_article_backend.service.CrawlJobService;
+import com.team.aiarticle.ai_article_backend.service.related.RelatedArticleIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
@@ -23,8 +24,13 @@ import org.springframework.web.bind.annotation.RestController;
 
 import org.springframework.web.bind.annotation.RequestParam;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 @RestController
 @RequestMapping("/api") // Base path for API endpoints
@@ -35,8 +41,13 @@ public class ArticleSummaryController {
 
     private final ArticleSummaryService articleSummaryService;
     private final ArticleServiceV2 articleServiceV2;
-    private final CrawlingBridgeService crawlingBridgeService;
+    private final CrawlJobService crawlJobService;
     private final ArticleV2Repository articleV2Repository;
+    private final RelatedArticleIndex relatedArticleIndex;
+
+    // 프론트 요청 타임아웃(3분)보다 짧게 기다리고, 넘으면 202 + jobId로 응답
+    @Value("${crawler.queue.wait-seconds:150}")
+    private long analyzeWaitSeconds;
 
     @GetMapping("/articles")
     public ResponseEntity<List<ArticleListResponse>> getArticles(@RequestParam(name = "limit", defaultValue = "200") int limit) {
@@ -61,6 +72,14 @@ public class ArticleSummaryController {
         return ResponseEntity.ok(articleSummaryService.getArticleWithSummary(id));
     }
 
+    // 키워드 겹침 기반 관련 기사 (메모리 인덱스 조회)
+    @GetMapping("/article/{id}/related")
+    public ResponseEntity<List<RelatedArticleIndex.Related>> getRelatedArticles(
+            @PathVariable Integer id,
+            @RequestParam(name = "limit", defaultValue = "5") int limit) {
+        return ResponseEntity.ok(relatedArticleIndex.related(id, Math.max(1, Math.min(limit, 50))));
+    }
+
     @PostMapping("/articles/v2") // New endpoint for article ingestion
     public ResponseEntity<?> ingestArticle(@RequestBody ArticleIngestRequest ingestRequest) {
         try {
@@ -84,30 +103,51 @@ public class ArticleSummaryController {
 
         log.info("Analyzing article: {}", articleUrl);
 
+        CrawlJobService.CrawlJob job;
         try {
-            // Call crawling service to crawl + analyze the article
-            ManualCrawlResponse crawlResult = crawlingBridgeService.crawlSingleArticle(articleUrl);
-
-            if (!crawlResult.success()) {
-                log.error("Crawling failed with exit code {}: {}", crawlResult.exitCode(), crawlResult.log());
-                return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                        .body(Map.of("error", "Article analysis failed", "log", crawlResult.log()));
-            }
-
-            // Find the article by URL after crawling
-            var articleOpt = articleV2Repository.findByArticleUrl(articleUrl);
-            if (articleOpt.isPresent()) {
-                return ResponseEntity.ok(ArticleSummaryResponse.fromEntity(articleOpt.get()));
-            } else {
-                log.warn("Article not found after crawling: {}", articleUrl);
-                return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                        .body(Map.of("error", "Article not found after crawling"));
-            }
+            job = crawlJobService.submit(articleUrl);
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(Map.of("error", "분석 요청이 많아 잠시 후 다시 시도해주세요."));
+        }
 
-        } catch (Exception e) {
-            log.error("Error analyzing article: {}", e.getMessage(), e);
+        try {
+            Integer articleId = job.future().get(analyzeWaitSeconds, TimeUnit.SECONDS);
+            return articleResponse(articleId);
+        } catch (TimeoutException e) {
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(jobBody(job));
+        } catch (ExecutionException e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", job.getError() != null ? job.getError() : "Article analysis failed"));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(Map.of("error", e.getMessage()));
+                    .body(Map.of("error", "interrupted"));
         }
     }
+
+    @GetMapping("/articles/analyze/jobs/{jobId}")
+    public ResponseEntity<?> analyzeJobStatus(@PathVariable String jobId) {
+        return crawlJobService.find(jobId)
+                .<ResponseEntity<?>>map(job -> ResponseEntity.ok(jobBody(job)))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(Map.of("error", "job not found: " + jobId)));
+    }
+
+    private ResponseEntity<?> articleResponse(Integer articleId) {
+        return articleV2Repository.findById(articleId)
+                .<ResponseEntity<?>>map(a -> ResponseEntity.ok(ArticleSummaryResponse.fromEntity(a)))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(Map.of("error", "Article not found after crawling")));
+    }
+
+    private Map<String, Object> jobBody(CrawlJobService.CrawlJob job) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("jobId", job.getJobId());
+        body.put("status", job.getStatus().name());
+        body.put("articleUrl", job.getArticleUrl());
+        body.put("articleId", job.getArticleId());
+        body.put("error", job.getError());
+        return body;
+    }
 }
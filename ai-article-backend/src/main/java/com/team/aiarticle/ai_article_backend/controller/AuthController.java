@@ -62,9 +62,9 @@ public class AuthController {
         if (!passwordEncoder.matches(req.getPassword(), user.getPasswordHash())) {
             return ResponseEntity.status(401).body(java.util.Map.of("message","Invalid credentials"));
         }
-        String token = jwtUtils.generateJwtToken(user.getEmail());
         List<String> roles = user.getRoles() == null ? Collections.emptyList() :
                 user.getRoles().stream().map(r -> r.getName().name()).collect(Collectors.toList());
+        String token = jwtUtils.generateJwtToken(user.getEmail(), user.getUserId(), user.getUsername(), roles);
         JwtResponse resp = new JwtResponse(token, user.getUserId(), user.getUsername(), user.getEmail(), roles);
         return ResponseEntity.ok(resp);
     }
@@ -2,35 +2,48 @@ package com.team.aiarticle.ai_article_backend.controller;
 
 import com.team.aiarticle.ai_article_backend.dto.DictionaryDto;
 import com.team.aiarticle.ai_article_backend.entity.WordDefinition;
-import com.team.aiarticle.ai_article_backend.repository.WordDefinitionRepository;
+import com.team.aiarticle.ai_article_backend.service.DictionaryService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.Optional;
+import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/dictionary")
 public class DictionaryController {
 
-    @Autowired(required = false)
-    private WordDefinitionRepository wordDefinitionRepository;
+    private static final int MAX_BATCH = 200;
+
+    @Autowired
+    private DictionaryService dictionaryService;
 
     @GetMapping("/{word}")
     public ResponseEntity<WordDefinition> getDefinition(@PathVariable String word) {
-        if (wordDefinitionRepository == null) return ResponseEntity.notFound().build();
-        Optional<WordDefinition> def = wordDefinitionRepository.findAll().stream()
-                .filter(w -> word.equalsIgnoreCase(w.getWord()))
-                .findFirst();
-        return def.map(ResponseEntity::ok).orElseGet(() -> ResponseEntity.notFound().build());
+        return dictionaryService.find(word)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    // 기사 키워드 전체를 한 번에 조회: { "words": ["금리", "환율", ...] } -> { "definitions": { "금리": "...", ... } }
+    @PostMapping("/lookup")
+    public ResponseEntity<?> lookup(@RequestBody Map<String, List<String>> body) {
+        List<String> words = body.get("words");
+        if (words == null) {
+            return ResponseEntity.badRequest().body(Map.of("message", "words is required"));
+        }
+        if (words.size() > MAX_BATCH) {
+            return ResponseEntity.badRequest().body(Map.of("message", "too many words (max " + MAX_BATCH + ")"));
+        }
+        return ResponseEntity.ok(Map.of("definitions", dictionaryService.findAll(words)));
     }
 
     @PostMapping
     public ResponseEntity<WordDefinition> createOrUpdate(@RequestBody DictionaryDto dto) {
-        if (wordDefinitionRepository == null) return ResponseEntity.badRequest().build();
-        WordDefinition wd = new WordDefinition();
-        wd.setWord(dto.getWord());
-        wd.setDefinition(dto.getDefinition());
-        return ResponseEntity.ok(wordDefinitionRepository.save(wd));
+        if (!dictionaryService.isAvailable() || dto.getWord() == null || dto.getWord().isBlank()) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(dictionaryService.save(dto.getWord(), dto.getDefinition()));
     }
 }
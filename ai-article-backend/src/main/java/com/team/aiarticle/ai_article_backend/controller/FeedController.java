@@ -0,0 +1,39 @@
+package com.team.aiarticle.ai_article_backend.controller;
+
+import com.team.aiarticle.ai_article_backend.dto.FeedCardResponse;
+import com.team.aiarticle.ai_article_backend.security.services.UserDetailsImpl;
+import com.team.aiarticle.ai_article_backend.service.feed.PersonalizedFeedService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/articles")
+@CrossOrigin(origins = "http://localhost:5173")
+@RequiredArgsConstructor
+public class FeedController {
+
+    private final PersonalizedFeedService feedService;
+
+    // 로그인 사용자는 관심 카테고리 기준 + 읽은 기사 제외, 비로그인은 전체 최신순
+    @GetMapping("/feed")
+    public ResponseEntity<List<FeedCardResponse>> feed(@RequestParam(name = "limit", defaultValue = "50") int limit) {
+        return ResponseEntity.ok(feedService.feed(currentUserId(), limit));
+    }
+
+    private Integer currentUserId() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth != null && auth.getPrincipal() instanceof UserDetailsImpl details) {
+            return details.getUserId();
+        }
+        return null;
+    }
+}
@@ -1,17 +1,19 @@
 package com.team.aiarticle.ai_article_backend.controller;
 
-import com.team.aiarticle.ai_article_backend.dto.ArticleListResponse;
+import com.team.aiarticle.ai_article_backend.dto.BookmarkCardResponse;
 import com.team.aiarticle.ai_article_backend.dto.ReadHistoryResponse;
 import com.team.aiarticle.ai_article_backend.entity.ArticleV2;
 import com.team.aiarticle.ai_article_backend.entity.User;
 import com.team.aiarticle.ai_article_backend.entity.UserBookmark;
 import com.team.aiarticle.ai_article_backend.repository.ArticleV2Repository;
 import com.team.aiarticle.ai_article_backend.repository.UserBookmarkRepository;
-import com.team.aiarticle.ai_article_backend.repository.CategoryRepository;
 import com.team.aiarticle.ai_article_backend.security.services.UserDetailsImpl;
+import com.team.aiarticle.ai_article_backend.service.CategoryRegistry;
 import com.team.aiarticle.ai_article_backend.service.UserReadHistoryService;
 import com.team.aiarticle.ai_article_backend.service.UserService;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -23,6 +25,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.time.Instant;
@@ -42,19 +45,25 @@ public class MyPageController {
     private final UserService userService;
     private final UserBookmarkRepository bookmarkRepository;
     private final ArticleV2Repository articleRepository;
-    private final CategoryRepository categoryRepository;
+    private final CategoryRegistry categoryRegistry;
+
+    private static final int MAX_BOOKMARK_PAGE = 200;
+
+    // true면 조회 이력은 write-behind 버퍼로 모아 주기적으로 일괄 저장 (202 응답)
+    @Value("${app.history.writeBehind.enabled:true}")
+    private boolean historyWriteBehind;
 
     public MyPageController(
             UserReadHistoryService historyService,
             UserService userService,
             UserBookmarkRepository bookmarkRepository,
             ArticleV2Repository articleRepository,
-            CategoryRepository categoryRepository) {
+            CategoryRegistry categoryRegistry) {
         this.historyService = historyService;
         this.userService = userService;
         this.bookmarkRepository = bookmarkRepository;
         this.articleRepository = articleRepository;
-        this.categoryRepository = categoryRepository;
+        this.categoryRegistry = categoryRegistry;
     }
 
     @GetMapping("/health")
@@ -171,6 +180,11 @@ public class MyPageController {
             return ResponseEntity.badRequest().body(Map.of("message", "invalid readAt format"));
         }
 
+        if (historyWriteBehind) {
+            historyService.enqueue(userId, articleId, readAt);
+            return ResponseEntity.accepted().body(Map.of("userId", userId, "articleId", articleId, "queued", true));
+        }
+
         try {
             ReadHistoryResponse response = historyService.record(userId, articleId, readAt);
             log.info("[READ-HISTORY] recorded userId={} articleId={}", userId, articleId);
@@ -195,31 +209,24 @@ public class MyPageController {
         return ResponseEntity.ok(Map.of("articleIds", articleIds));
     }
 
-    // 북마크 목록 조회 (기사 정보 포함)
+    // 북마크 목록 조회 (카드 정보, 최신순 keyset 페이지: beforeBookmarkId = 직전 페이지 마지막 bookmarkId)
     @GetMapping("/bookmarks")
-    public ResponseEntity<?> getBookmarks() {
+    public ResponseEntity<?> getBookmarks(
+            @RequestParam(name = "limit", defaultValue = "100") int limit,
+            @RequestParam(name = "beforeBookmarkId", required = false) Integer beforeBookmarkId) {
         Integer userId = extractUserIdFromSecurity();
         if (userId == null) {
             return ResponseEntity.status(401).body(Map.of("message", "Unauthorized"));
         }
 
-        var categoryMap = categoryRepository.findAll().stream()
-                .collect(java.util.stream.Collectors.toMap(
-                        c -> c.getCategoryCode(),
-                        c -> c.getCategoryName(),
-                        (a, b) -> a
-                ));
-
-        List<UserBookmark> bookmarks = bookmarkRepository.findByUserUserIdOrderByCreatedAtDesc(userId);
-        List<ArticleListResponse> articles = bookmarks.stream()
-                .map(b -> {
-                    ArticleV2 article = b.getArticle();
-                    String categoryName = categoryMap.getOrDefault(article.getCategoryCode(), "기타");
-                    return ArticleListResponse.from(article, categoryName);
-                })
-                .toList();
+        int pageSize = Math.max(1, Math.min(limit, MAX_BOOKMARK_PAGE));
+        List<BookmarkCardResponse> cards = bookmarkRepository.findCardsByUserId(
+                userId,
+                beforeBookmarkId != null ? beforeBookmarkId : Integer.MAX_VALUE,
+                PageRequest.of(0, pageSize));
 
-        return ResponseEntity.ok(articles);
+        cards.forEach(c -> c.setCategoryName(categoryRegistry.nameOf(c.getCategoryCode(), "기타")));
+        return ResponseEntity.ok(cards);
     }
 
     // 북마크 추가
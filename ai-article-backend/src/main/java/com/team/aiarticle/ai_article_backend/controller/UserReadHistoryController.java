@@ -2,6 +2,7 @@ package com.team.aiarticle.ai_article_backend.controller;
 
 import com.team.aiarticle.ai_article_backend.dto.ReadHistoryResponse;
 import com.team.aiarticle.ai_article_backend.service.UserReadHistoryService;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -9,6 +10,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -23,8 +25,12 @@ public class UserReadHistoryController {
 
     @GetMapping("/{userId}/read-history")
     public ResponseEntity<List<ReadHistoryResponse>> getReadHistory(@PathVariable Integer userId,
-                                                                    @RequestParam(defaultValue = "20") int limit) {
-        List<ReadHistoryResponse> history = userReadHistoryService.getReadHistory(userId, limit);
+                                                                    @RequestParam(defaultValue = "20") int limit,
+                                                                    @RequestParam(required = false)
+                                                                    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime beforeReadAt,
+                                                                    @RequestParam(required = false) Integer beforeHistoryId) {
+        List<ReadHistoryResponse> history =
+                userReadHistoryService.getReadHistory(userId, limit, beforeReadAt, beforeHistoryId);
         return ResponseEntity.ok(history);
     }
 }
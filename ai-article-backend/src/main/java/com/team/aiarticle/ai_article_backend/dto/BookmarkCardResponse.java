@@ -0,0 +1,39 @@
+package com.team.aiarticle.ai_article_backend.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 북마크 목록 카드용 응답. 본문/요약(LONGTEXT)은 포함하지 않는다.
+ * UserBookmarkRepository.findCardsByUserId의 JPQL 생성자 표현식으로 바로 만들어진다.
+ */
+@Getter
+public class BookmarkCardResponse {
+    private final Integer bookmarkId;
+    private final Integer articleId;
+    private final String articleUrl;
+    private final String title;
+    private final String publisher;
+    private final LocalDateTime publishedAt;
+    private final String imageUrl;
+    private final String categoryCode;
+    private final LocalDateTime bookmarkedAt;
+    @Setter
+    private String categoryName;
+
+    public BookmarkCardResponse(Integer bookmarkId, Integer articleId, String articleUrl, String title,
+                                String publisher, LocalDateTime publishedAt, String imageUrl,
+                                String categoryCode, LocalDateTime bookmarkedAt) {
+        this.bookmarkId = bookmarkId;
+        this.articleId = articleId;
+        this.articleUrl = articleUrl;
+        this.title = title;
+        this.publisher = publisher;
+        this.publishedAt = publishedAt;
+        this.imageUrl = imageUrl;
+        this.categoryCode = categoryCode;
+        this.bookmarkedAt = bookmarkedAt;
+    }
+}
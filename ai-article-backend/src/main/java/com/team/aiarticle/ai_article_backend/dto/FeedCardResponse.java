@@ -0,0 +1,61 @@
+package com.team.aiarticle.ai_article_backend.dto;
+
+import com.team.aiarticle.ai_article_backend.entity.ArticleV2;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 개인화 피드 카드용 응답. 본문/요약(LONGTEXT) 대신 앞부분 발췌(excerpt)만 담는다.
+ * PersonalizedFeedService의 링 버퍼에 그대로 보관되므로 작게 유지한다.
+ */
+@Getter
+public class FeedCardResponse {
+    private static final int EXCERPT_LENGTH = 120;
+
+    private final Integer articleId;
+    private final String title;
+    private final String publisher;
+    private final LocalDateTime publishedAt;
+    private final String imageUrl;
+    private final String categoryCode;
+    private final String categoryName;
+    private final String excerpt;
+
+    public FeedCardResponse(Integer articleId, String title, String publisher, LocalDateTime publishedAt,
+                            String imageUrl, String categoryCode, String categoryName, String excerpt) {
+        this.articleId = articleId;
+        this.title = title;
+        this.publisher = publisher;
+        this.publishedAt = publishedAt;
+        this.imageUrl = imageUrl;
+        this.categoryCode = categoryCode;
+        this.categoryName = categoryName;
+        this.excerpt = excerpt;
+    }
+
+    public static FeedCardResponse from(ArticleV2 article, String categoryName) {
+        // 요약이 있으면 요약, 없으면 본문 앞부분
+        String source = article.getSummarize() != null && !article.getSummarize().isBlank()
+                ? article.getSummarize() : article.getContent();
+        return new FeedCardResponse(
+                article.getArticleId(),
+                article.getTitle(),
+                article.getPublisher(),
+                article.getPublishedAt(),
+                article.getImage_url(),
+                article.getCategoryCode(),
+                categoryName,
+                excerpt(source));
+    }
+
+    // 공백을 한 칸으로 줄이고 EXCERPT_LENGTH자에서 자른다 (원문 문자열을 참조하지 않는 새 문자열)
+    static String excerpt(String text) {
+        if (text == null) return "";
+        String flat = text.replaceAll("\\s+", " ").strip();
+        if (flat.length() <= EXCERPT_LENGTH) return flat;
+        int end = EXCERPT_LENGTH;
+        if (Character.isHighSurrogate(flat.charAt(end - 1))) end--;
+        return flat.substring(0, end).stripTrailing() + "…";
+    }
+}
@@ -20,4 +20,18 @@ public class AdminJobLock {
 
     @Column(name = "locked_at", nullable = false)
     private LocalDateTime lockedAt;
+
+    // 일시정지 표시. 행 자체는 작업 임대(JobLeaseService)와 함께 쓰므로 존재 여부가 아닌 이 값으로 판단
+    @Column(name = "paused", nullable = false)
+    private boolean paused;
+
+    // 아래 임대 컬럼은 JobLeaseService가 JDBC로 직접 갱신한다
+    @Column(name = "lease_owner", length = 128, insertable = false, updatable = false)
+    private String leaseOwner;
+
+    @Column(name = "lease_until", insertable = false, updatable = false)
+    private LocalDateTime leaseUntil;
+
+    @Column(name = "fencing_token", insertable = false, updatable = false)
+    private Long fencingToken;
 }
@@ -20,6 +20,10 @@ public class ArticleProcessedContentV2 {
     @Column(name = "processed_text", columnDefinition = "TEXT", nullable = false)
     private String processedText;
 
+    // KoreanNlpService 토큰을 공백으로 이어 붙인 값 (전처리 단계에서 채움)
+    @Column(name = "processed_tokens", columnDefinition = "TEXT")
+    private String processedTokens;
+
     @Column(name = "processed_at")
     private LocalDateTime processedAt;
 }
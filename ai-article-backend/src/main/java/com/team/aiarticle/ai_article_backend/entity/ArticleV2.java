@@ -54,4 +54,8 @@ public class ArticleV2 {
     
     @Column(name = "summarize", columnDefinition = "LONGTEXT")
     private String summarize;
+
+    // 유사 중복(같은 통신 기사 등)으로 판정된 경우 원본 기사 id. 원본이면 null
+    @Column(name = "canonical_article_id")
+    private Integer canonicalArticleId;
 }
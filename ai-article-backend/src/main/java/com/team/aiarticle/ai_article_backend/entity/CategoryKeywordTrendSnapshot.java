@@ -23,7 +23,8 @@ public class CategoryKeywordTrendSnapshot {
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "keyword_id", nullable = false,
-            foreignKey = @ForeignKey(name = "fk_trend_kw"))
+            // 파티션 테이블은 FK를 가질 수 없어 db/partitioning.sql에서 제거함. ddl-auto=update가 다시 만들지 않도록 NO_CONSTRAINT
+            foreignKey = @ForeignKey(name = "fk_trend_kw", value = ConstraintMode.NO_CONSTRAINT))
     private Keyword keyword;
 
     @Column(name = "window_start", nullable = false)
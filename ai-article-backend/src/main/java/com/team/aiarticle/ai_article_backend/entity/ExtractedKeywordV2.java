@@ -19,12 +19,15 @@ public class ExtractedKeywordV2 {
     @Column(name = "extracted_keyword_id")
     private Integer extractedKeywordId;
 
+    // 파티션 테이블이라 FK 없음(db/partitioning.sql). ddl-auto=update가 다시 만들지 않도록 NO_CONSTRAINT
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "processed_content_id", nullable = false)
+    @JoinColumn(name = "processed_content_id", nullable = false,
+            foreignKey = @ForeignKey(value = ConstraintMode.NO_CONSTRAINT))
     private ArticleProcessedContentV2 processedContent;
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "keyword_id", nullable = false)
+    @JoinColumn(name = "keyword_id", nullable = false,
+            foreignKey = @ForeignKey(value = ConstraintMode.NO_CONSTRAINT))
     private Keyword keyword;
 
     // DB가 DECIMAL(10,6)이므로 BigDecimal로 맞춥니다.
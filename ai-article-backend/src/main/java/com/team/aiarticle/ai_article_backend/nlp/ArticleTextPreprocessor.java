@@ -0,0 +1,46 @@
+package com.team.aiarticle.ai_article_backend.nlp;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * AI 서버(/analyze)로 보내기 전 기사 본문을 정리하는 전처리기.
+ * HTML 제거 → 공백/제어문자 정규화 → 최대 길이로 자르기(문장 경계 우선) 순으로 처리한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ArticleTextPreprocessor {
+
+    private final HtmlExtractor htmlExtractor;
+    private final KoreanNlpService nlpService;
+
+    // article_processed_content_v2.processed_text(TEXT, 64KB) 한도 안쪽으로 유지
+    @Value("${app.pipeline.preprocess.maxChars:6000}")
+    private int maxChars;
+
+    public String preprocess(String raw) {
+        if (raw == null || raw.isBlank()) return "";
+        String text = looksLikeHtml(raw) ? htmlExtractor.toPlainText(raw) : raw;
+        return truncate(nlpService.normalize(text));
+    }
+
+    private String truncate(String text) {
+        if (maxChars <= 0 || text.length() <= maxChars) return text;
+        String head = text.substring(0, maxChars);
+        // 마지막 20% 구간 안에 문장 끝이 있으면 그 위치에서 자른다
+        int minCut = (int) (maxChars * 0.8);
+        for (int i = head.length() - 1; i >= minCut; i--) {
+            char c = head.charAt(i);
+            if (c == '.' || c == '?' || c == '!') {
+                return head.substring(0, i + 1);
+            }
+        }
+        return head.trim();
+    }
+
+    private static boolean looksLikeHtml(String s) {
+        int lt = s.indexOf('<');
+        return lt >= 0 && s.indexOf('>', lt) > lt;
+    }
+}
@@ -106,7 +106,8 @@ public class KoreanNlpService {
                      .toList();
     }
 	
-    private List<String> mergeCompoundNouns(List<String> tokens, Set<String> dict) {
+    // 인스턴스 상태를 쓰지 않으므로 static, 벤치마크(src/jmh)에서 직접 부르도록 패키지 공개
+    static List<String> mergeCompoundNouns(List<String> tokens, Set<String> dict) {
         List<String> result = new ArrayList<>();
         int n = tokens.size();
         int i = 0;
@@ -1,8 +1,8 @@
 package com.team.aiarticle.ai_article_backend.nlp;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
-import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
@@ -14,10 +14,9 @@ import java.util.List;
 import java.util.Map;
 
 @Service
-@RequiredArgsConstructor
 public class RagAiApiCaller {
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final RestTemplate restTemplate;
 
     @Value("${rag.api.url}")
     private String apiUrl;
@@ -25,6 +24,11 @@ public class RagAiApiCaller {
     @Value("${rag.api.key}")
     private String apiKey;
 
+    // Boot의 RestTemplateBuilder로 만들어야 AI 호출이 http.client.requests{uri, status}로 계측된다
+    public RagAiApiCaller(RestTemplateBuilder restTemplateBuilder) {
+        this.restTemplate = restTemplateBuilder.build();
+    }
+
     public AnalyzeResponse analyze(String htmlContent, String articleTitle, Map<String, Object> metadata) {
         String fullUrl = apiUrl + "/analyze";
 
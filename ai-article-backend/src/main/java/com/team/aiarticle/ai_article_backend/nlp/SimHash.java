@@ -0,0 +1,56 @@
+package com.team.aiarticle.ai_article_backend.nlp;
+
+/**
+ * 64비트 SimHash. 공백을 뺀 본문의 문자 n-gram(shingle)을 특징으로 사용한다.
+ * 같은 통신사 기사를 언론사별로 조금씩 고친 정도면 해밍 거리가 몇 비트 이내로 나온다.
+ */
+public final class SimHash {
+
+    private static final int SHINGLE = 4;
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private SimHash() {}
+
+    public static long of(String text) {
+        if (text == null) return 0L;
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!Character.isWhitespace(c)) sb.append(Character.toLowerCase(c));
+        }
+        if (sb.length() < SHINGLE) return 0L;
+
+        int[] v = new int[64];
+        for (int i = 0; i + SHINGLE <= sb.length(); i++) {
+            long h = FNV_OFFSET;
+            for (int j = i; j < i + SHINGLE; j++) {
+                h ^= sb.charAt(j);
+                h *= FNV_PRIME;
+            }
+            h = mix(h);
+            for (int b = 0; b < 64; b++) {
+                v[b] += ((h >>> b) & 1L) != 0 ? 1 : -1;
+            }
+        }
+        long fp = 0L;
+        for (int b = 0; b < 64; b++) {
+            if (v[b] > 0) fp |= 1L << b;
+        }
+        return fp;
+    }
+
+    public static int distance(long a, long b) {
+        return Long.bitCount(a ^ b);
+    }
+
+    // FNV 결과의 비트 분산을 높이기 위한 finalizer (murmur3 fmix64)
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb93fe53a87ddL;
+        h ^= h >>> 33;
+        return h;
+    }
+}
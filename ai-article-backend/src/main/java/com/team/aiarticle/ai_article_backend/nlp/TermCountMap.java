@@ -0,0 +1,69 @@
+package com.team.aiarticle.ai_article_backend.nlp;
+
+/**
+ * 용어 → 정수 카운트를 저장하는 open-addressing 해시맵.
+ * HashMap&lt;String, Integer&gt;와 달리 Entry/Integer 박싱 없이 배열 두 개만 사용해
+ * 수십만 개 용어의 문서 빈도(DF)를 작은 메모리로 유지한다. 스레드 안전하지 않다.
+ */
+final class TermCountMap {
+
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private String[] keys;
+    private int[] counts;
+    private int size;
+
+    TermCountMap(int expectedSize) {
+        int cap = Integer.highestOneBit(Math.max(16, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        keys = new String[cap];
+        counts = new int[cap];
+    }
+
+    int get(String term) {
+        int mask = keys.length - 1;
+        for (int i = mix(term.hashCode()) & mask; keys[i] != null; i = (i + 1) & mask) {
+            if (keys[i].equals(term)) return counts[i];
+        }
+        return 0;
+    }
+
+    void increment(String term) {
+        if (size + 1 > keys.length * LOAD_FACTOR) rehash(keys.length << 1);
+        int mask = keys.length - 1;
+        int i = mix(term.hashCode()) & mask;
+        while (keys[i] != null) {
+            if (keys[i].equals(term)) {
+                counts[i]++;
+                return;
+            }
+            i = (i + 1) & mask;
+        }
+        keys[i] = term;
+        counts[i] = 1;
+        size++;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void rehash(int newCap) {
+        String[] oldKeys = keys;
+        int[] oldCounts = counts;
+        keys = new String[newCap];
+        counts = new int[newCap];
+        int mask = newCap - 1;
+        for (int j = 0; j < oldKeys.length; j++) {
+            String k = oldKeys[j];
+            if (k == null) continue;
+            int i = mix(k.hashCode()) & mask;
+            while (keys[i] != null) i = (i + 1) & mask;
+            keys[i] = k;
+            counts[i] = oldCounts[j];
+        }
+    }
+
+    private static int mix(int h) {
+        return h ^ (h >>> 16);
+    }
+}
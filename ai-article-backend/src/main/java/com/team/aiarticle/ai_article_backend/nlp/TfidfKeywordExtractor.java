@@ -0,0 +1,130 @@
+package com.team.aiarticle.ai_article_backend.nlp;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * AI 서버 없이 JVM 안에서 BM25 점수로 키워드를 뽑는 로컬 추출기.
+ * 문서 빈도(DF)는 article_processed_content_v2.processed_tokens를 processed_content_id 순으로
+ * 읽어 누적하며, refresh() 때마다 마지막으로 본 id 이후 행만 추가로 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TfidfKeywordExtractor {
+
+    private final JdbcTemplate jdbc;
+    private final KoreanNlpService nlpService;
+
+    @Value("${app.tfidf.bm25.k1:1.2}")
+    private double k1;
+
+    @Value("${app.tfidf.bm25.b:0.75}")
+    private double b;
+
+    // 한 글자 형태소(조사/어미 잔여물 등)는 키워드로 쓰지 않는다
+    @Value("${app.tfidf.minTokenLength:2}")
+    private int minTokenLength;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final TermCountMap docFreq = new TermCountMap(1 << 15);
+    private long docCount;
+    private long totalDocLength;
+    private long lastProcessedContentId;
+
+    /**
+     * 마지막 반영 이후 새로 저장된 processed_tokens를 DF에 누적한다.
+     * 이미 반영된 행의 토큰이 나중에 바뀌어도 다시 세지 않는다(통계용 근사치).
+     */
+    public int refresh() {
+        lock.writeLock().lock();
+        try {
+            int[] added = {0};
+            jdbc.query("""
+                SELECT processed_content_id, processed_tokens
+                FROM article_processed_content_v2
+                WHERE processed_content_id > ? AND processed_tokens IS NOT NULL AND processed_tokens <> ''
+                ORDER BY processed_content_id
+            """, rs -> {
+                addDocument(nlpService.tokenize(rs.getString("processed_tokens")));
+                lastProcessedContentId = rs.getLong("processed_content_id");
+                added[0]++;
+            }, lastProcessedContentId);
+            if (added[0] > 0) {
+                log.info("[TFIDF] DF refreshed: +{} docs (total docs={}, terms={})", added[0], docCount, docFreq.size());
+            }
+            return added[0];
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** 토큰 목록에서 BM25 상위 topN 키워드를 뽑는다. 점수는 최고점 기준 0~1로 정규화한다. */
+    public List<RagAiApiCaller.KeywordScore> extract(List<String> tokens, int topN) {
+        Map<String, Integer> tf = new HashMap<>();
+        int docLength = 0;
+        for (String t : tokens) {
+            if (!isCandidate(t)) continue;
+            tf.merge(t, 1, Integer::sum);
+            docLength++;
+        }
+        if (tf.isEmpty()) return List.of();
+
+        List<RagAiApiCaller.KeywordScore> scored = new ArrayList<>(tf.size());
+        lock.readLock().lock();
+        try {
+            double n = Math.max(1, docCount);
+            double avgDl = docCount > 0 ? (double) totalDocLength / docCount : docLength;
+            double norm = k1 * (1 - b + b * docLength / Math.max(1.0, avgDl));
+            for (Map.Entry<String, Integer> e : tf.entrySet()) {
+                int df = docFreq.get(e.getKey());
+                double idf = Math.log(1 + (n - df + 0.5) / (df + 0.5));
+                int f = e.getValue();
+                RagAiApiCaller.KeywordScore ks = new RagAiApiCaller.KeywordScore();
+                ks.setWord(e.getKey());
+                ks.setScore(idf * f * (k1 + 1) / (f + norm));
+                scored.add(ks);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        scored.sort((x, y) -> Double.compare(y.getScore(), x.getScore()));
+        List<RagAiApiCaller.KeywordScore> top = scored.subList(0, Math.min(Math.max(1, topN), scored.size()));
+        double max = top.get(0).getScore();
+        if (max > 0) top.forEach(ks -> ks.setScore(ks.getScore() / max));
+        return new ArrayList<>(top);
+    }
+
+    private void addDocument(List<String> tokens) {
+        Set<String> seen = new HashSet<>();
+        int length = 0;
+        for (String t : tokens) {
+            if (!isCandidate(t)) continue;
+            length++;
+            if (seen.add(t)) docFreq.increment(t);
+        }
+        docCount++;
+        totalDocLength += length;
+    }
+
+    private boolean isCandidate(String token) {
+        if (token == null || token.length() < minTokenLength) return false;
+        // 숫자만으로 된 토큰(SN)은 제외
+        for (int i = 0; i < token.length(); i++) {
+            if (!Character.isDigit(token.charAt(i))) return true;
+        }
+        return false;
+    }
+}
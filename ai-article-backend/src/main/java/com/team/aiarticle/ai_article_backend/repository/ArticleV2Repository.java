@@ -15,12 +15,19 @@ public interface ArticleV2Repository extends JpaRepository<ArticleV2, Integer> {
 
     Optional<ArticleV2> findByArticleUrl(String url);
 
+    // URL 존재 여부만 확인할 때 본문(TEXT)까지 읽지 않도록 id만 조회 (article_url UNIQUE 인덱스)
+    @Query("SELECT a.articleId FROM ArticleV2 a WHERE a.articleUrl = :url")
+    Optional<Integer> findIdByArticleUrl(@Param("url") String url);
+
     // For latest articles listing
     List<ArticleV2> findTop3ByOrderByArticleIdDesc();
 
     // Paged descending by id (for feeds)
     List<ArticleV2> findAllByOrderByArticleIdDesc(Pageable pageable);
 
+    // 개인화 피드 링 버퍼 증분 적재용
+    List<ArticleV2> findByArticleIdGreaterThanOrderByArticleIdAsc(Integer articleId, Pageable pageable);
+
     // 검색: 제목 또는 본문에서 키워드 검색
     @Query("""
         SELECT a FROM ArticleV2 a
@@ -1,6 +1,8 @@
 package com.team.aiarticle.ai_article_backend.repository;
 
+import com.team.aiarticle.ai_article_backend.dto.BookmarkCardResponse;
 import com.team.aiarticle.ai_article_backend.entity.UserBookmark;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -22,4 +24,17 @@ public interface UserBookmarkRepository extends JpaRepository<UserBookmark, Inte
     List<Integer> findArticleIdsByUserId(@Param("userId") Integer userId);
 
     List<UserBookmark> findByUserUserIdOrderByCreatedAtDesc(Integer userId);
+
+    // 북마크 카드 목록: 기사와 한 번에 조인해 카드 필드만 조회, bookmark_id 내림차순 keyset 페이지
+    @Query("""
+        SELECT new com.team.aiarticle.ai_article_backend.dto.BookmarkCardResponse(
+            b.bookmarkId, a.articleId, a.articleUrl, a.title, a.publisher,
+            a.publishedAt, a.image_url, a.categoryCode, b.createdAt)
+        FROM UserBookmark b JOIN b.article a
+        WHERE b.user.userId = :userId AND b.bookmarkId < :beforeBookmarkId
+        ORDER BY b.bookmarkId DESC
+    """)
+    List<BookmarkCardResponse> findCardsByUserId(@Param("userId") Integer userId,
+                                                 @Param("beforeBookmarkId") Integer beforeBookmarkId,
+                                                 Pageable pageable);
 }
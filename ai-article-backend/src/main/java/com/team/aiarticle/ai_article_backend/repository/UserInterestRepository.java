@@ -2,10 +2,12 @@ package com.team.aiarticle.ai_article_backend.repository;
 
 import com.team.aiarticle.ai_article_backend.entity.UserInterest;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -18,6 +20,10 @@ public interface UserInterestRepository extends JpaRepository<UserInterest, Inte
     @Query("SELECT ui.categoryCode FROM UserInterest ui WHERE ui.user.userId = :userId AND ui.categoryCode IS NOT NULL")
     List<String> findCategoryCodesByUserId(@Param("userId") Integer userId);
 
+    @Modifying
+    @Query("DELETE FROM UserInterest ui WHERE ui.user.userId = :userId AND ui.categoryCode IN :codes")
+    int deleteCategoryInterests(@Param("userId") Integer userId, @Param("codes") Collection<String> codes);
+
     @Query("SELECT k.keywordName FROM UserInterest ui JOIN ui.keyword k WHERE ui.user.userId = :userId")
     List<String> findKeywordNamesByUserId(@Param("userId") Integer userId);
 }
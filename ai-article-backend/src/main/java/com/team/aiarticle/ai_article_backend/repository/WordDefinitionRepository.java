@@ -4,6 +4,15 @@ import com.team.aiarticle.ai_article_backend.entity.WordDefinition;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface WordDefinitionRepository extends JpaRepository<WordDefinition, Long> {
+
+    // word 컬럼은 utf8mb4_general_ci라 '=' / IN 비교가 대소문자를 구분하지 않는다 (ux_word_definition_word 사용)
+    Optional<WordDefinition> findFirstByWord(String word);
+
+    List<WordDefinition> findByWordIn(Collection<String> words);
 }
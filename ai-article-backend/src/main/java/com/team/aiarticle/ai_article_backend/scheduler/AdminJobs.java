@@ -1,5 +1,7 @@
 package com.team.aiarticle.ai_article_backend.scheduler;
 
+import java.util.List;
+
 public final class AdminJobs {
     private AdminJobs() {}
 
@@ -7,4 +9,12 @@ public final class AdminJobs {
     public static final String ANALYZE_KEYWORDS = "analyze_keywords";
     public static final String AGGREGATE_TREND_24H = "aggregate_trend_24h"; // 코드 내 24h라 이름은 24h로 둠
     public static final String PURGE_TREND_48H = "purge_trend_snapshot";
+    public static final String PARTITION_MAINTENANCE = "partition_maintenance";
+    public static final String KEYWORDS_RERUN = "keywordsRerunV2";
+    public static final String CLEANUP_OLDER_THAN = "cleanupOlderThanHours";
+
+    // 관리자 화면에서 일시정지/재개할 수 있는 작업 목록
+    public static final List<String> ALL = List.of(
+            PROCESS_NEW, ANALYZE_KEYWORDS, AGGREGATE_TREND_24H, PURGE_TREND_48H,
+            PARTITION_MAINTENANCE, KEYWORDS_RERUN, CLEANUP_OLDER_THAN);
 }
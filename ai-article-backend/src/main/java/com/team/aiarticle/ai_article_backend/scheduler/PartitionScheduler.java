@@ -0,0 +1,48 @@
+package com.team.aiarticle.ai_article_backend.scheduler;
+
+import com.team.aiarticle.ai_article_backend.service.admin.AdminJobGate;
+import com.team.aiarticle.ai_article_backend.service.admin.AdminRunLogger;
+import com.team.aiarticle.ai_article_backend.service.admin.JobLeaseService;
+import com.team.aiarticle.ai_article_backend.service.admin.PartitionMaintenanceService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PartitionScheduler {
+
+    private final PartitionMaintenanceService partitions;
+    private final AdminJobGate gate;
+    private final AdminRunLogger runLogger;
+    private final JobLeaseService leases;
+
+    // 기동 직후 한 번: 서버가 며칠 내려가 있었어도 오늘 이후 파티션이 없어 INSERT가 실패하지 않도록
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        maintain();
+    }
+
+    // 매일 00:10 미래 스냅샷 파티션 생성 + 키워드 파티션 분할
+    @Scheduled(cron = "${app.partition.cron:0 10 0 * * *}", zone = "Asia/Seoul")
+    public void maintain() {
+        if (gate.isPaused(AdminJobs.PARTITION_MAINTENANCE)) {
+            log.info("[Partition] '{}' paused - skip", AdminJobs.PARTITION_MAINTENANCE);
+            return;
+        }
+        leases.runExclusive(AdminJobs.PARTITION_MAINTENANCE, () -> {
+            long runId = runLogger.start(AdminJobs.PARTITION_MAINTENANCE, null);
+            try {
+                runLogger.success(runId, partitions.maintain());
+            } catch (Exception e) {
+                log.error("[Partition] maintenance failed", e);
+                runLogger.fail(runId, e.getMessage());
+            }
+            return null;
+        });
+    }
+}
@@ -1,9 +1,12 @@
 package com.team.aiarticle.ai_article_backend.scheduler;
 
+import com.team.aiarticle.ai_article_backend.service.admin.AdminJobGate;
 import com.team.aiarticle.ai_article_backend.service.admin.AdminRunLogger;
+import com.team.aiarticle.ai_article_backend.service.admin.JobLeaseService;
 import com.team.aiarticle.ai_article_backend.service.pipeline.PipelineService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
@@ -14,21 +17,38 @@ public class ProcessingScheduler {
 
     private final PipelineService pipeline;
     private final AdminRunLogger runLogger;
+    private final AdminJobGate gate;
+    private final JobLeaseService leases; // 여러 인스턴스 중 한 곳에서만 실행
+
+    @Value("${app.pipeline.preprocess.batchSize:100}")
+    private int preprocessBatchSize;
 
     @Scheduled(cron = "${app.scheduler.cron.preprocess:0 0/5 * * * *}") // 5분마다
     public void preprocess() {
-        long runId = runLogger.start(AdminJobs.PROCESS_NEW, null);
-        try {
-            int saved = pipeline.processNewArticles(100);
-            runLogger.success(runId, "Saved: " + saved);
-        } catch (Exception e) {
-            runLogger.fail(runId, e.getMessage());
+        if (gate.isPaused(AdminJobs.PROCESS_NEW)) {
+            log.info("[Processing] '{}' paused - skip", AdminJobs.PROCESS_NEW);
+            return;
         }
+        leases.runExclusive(AdminJobs.PROCESS_NEW, () -> {
+            long runId = runLogger.start(AdminJobs.PROCESS_NEW, null);
+            try {
+                int saved = pipeline.processNewArticles(preprocessBatchSize);
+                runLogger.success(runId, "Saved: " + saved);
+            } catch (Exception e) {
+                runLogger.fail(runId, e.getMessage());
+            }
+            return null;
+        });
     }
 
+    // 임대 없이 모든 인스턴스에서 실행: 기사 단위 claim으로 작업을 나눠 가진다
     @Scheduled(cron = "${app.scheduler.cron.keywords:0 0/15 * * * *}") // 15분마다
     public void analyzeKeywords() {
-        long runId = runLogger.start("analyze_keywords", null);
+        if (gate.isPaused(AdminJobs.ANALYZE_KEYWORDS)) {
+            log.info("[Processing] '{}' paused - skip", AdminJobs.ANALYZE_KEYWORDS);
+            return;
+        }
+        long runId = runLogger.start(AdminJobs.ANALYZE_KEYWORDS, null);
         try {
             int saved = pipeline.computeAndStoreTfidf();
             runLogger.success(runId, "Saved: " + saved);
@@ -3,6 +3,7 @@ package com.team.aiarticle.ai_article_backend.scheduler;
 import com.team.aiarticle.ai_article_backend.service.TrendAggregationService;
 import com.team.aiarticle.ai_article_backend.service.admin.AdminJobGate;
 import com.team.aiarticle.ai_article_backend.service.admin.AdminRunLogger;
+import com.team.aiarticle.ai_article_backend.service.admin.JobLeaseService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.EnableScheduling;
@@ -18,6 +19,7 @@ public class TrendScheduler {
     private final TrendAggregationService trendService;
     private final AdminJobGate gate;
     private final AdminRunLogger runLogger;
+    private final JobLeaseService leases;
 
     // ❶ 3시간마다 “최근 24시간” 스냅샷 재계산
     @Scheduled(cron = "0 0 */3 * * *", zone = "Asia/Seoul")
@@ -26,15 +28,18 @@ public class TrendScheduler {
             log.info("[Trend] '{}' paused - skip", AdminJobs.AGGREGATE_TREND_24H);
             return;
         }
-        log.info("[Trend] Aggregate last 24h trends");
-        long runId = runLogger.start(AdminJobs.AGGREGATE_TREND_24H, null);
-        try {
-            trendService.aggregateLast24hForAllCategories();
-            runLogger.success(runId, "OK");
-        } catch (Exception e) {
-            runLogger.fail(runId, e.getMessage());
-            throw e;
-        }
+        leases.runExclusive(AdminJobs.AGGREGATE_TREND_24H, () -> {
+            log.info("[Trend] Aggregate last 24h trends");
+            long runId = runLogger.start(AdminJobs.AGGREGATE_TREND_24H, null);
+            try {
+                trendService.aggregateLast24hForAllCategories();
+                runLogger.success(runId, "OK");
+            } catch (Exception e) {
+                runLogger.fail(runId, e.getMessage());
+                throw e;
+            }
+            return null;
+        });
     }
 
     // ❷ 6시간마다 48시간 이전 스냅샷 정리
@@ -44,14 +49,17 @@ public class TrendScheduler {
             log.info("[Trend] '{}' paused - skip", AdminJobs.PURGE_TREND_48H);
             return;
         }
-        long runId = runLogger.start(AdminJobs.PURGE_TREND_48H, null);
-        try {
-            long deleted = trendService.purgeOldSnapshots();
-            log.info("[Trend] Purged snapshots older than 48h: {}", deleted);
-            runLogger.success(runId, "deleted=" + deleted);
-        } catch (Exception e) {
-            runLogger.fail(runId, e.getMessage());
-            throw e;
-        }
+        leases.runExclusive(AdminJobs.PURGE_TREND_48H, () -> {
+            long runId = runLogger.start(AdminJobs.PURGE_TREND_48H, null);
+            try {
+                long deleted = trendService.purgeOldSnapshots(runId, 0);
+                log.info("[Trend] Purged snapshots older than 48h: {}", deleted);
+                runLogger.success(runId, "deleted=" + deleted);
+            } catch (Exception e) {
+                runLogger.fail(runId, e.getMessage());
+                throw e;
+            }
+            return null;
+        });
     }
 }
@@ -1,12 +1,16 @@
 package com.team.aiarticle.ai_article_backend.security.jwt;
 
+import com.team.aiarticle.ai_article_backend.security.services.UserDetailsImpl;
 import com.team.aiarticle.ai_article_backend.security.services.UserDetailsServiceImpl;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -15,24 +19,43 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Component
 public class AuthTokenFilter extends OncePerRequestFilter {
 
+    private static final int PRINCIPAL_CACHE_MAX = 10_000;
+
     @Autowired
     private JwtUtils jwtUtils;
 
     @Autowired
     private UserDetailsServiceImpl userDetailsService;
 
+    // true면 uid/roles 클레임이 있는 토큰은 DB 조회 없이 principal을 만든다
+    @Value("${app.jwt.stateless:true}")
+    private boolean stateless;
+
+    // 클레임이 없는(이전 형식) 토큰의 DB 조회 결과를 잠깐 캐시. 0이면 캐시하지 않음
+    @Value("${app.jwt.principalCacheTtlSeconds:60}")
+    private long principalCacheTtlSeconds;
+
+    private final Map<String, CachedPrincipal> principalCache = new ConcurrentHashMap<>();
+
+    private record CachedPrincipal(UserDetails details, long expiresAt) {}
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
         try {
             String jwt = parseJwt(request);
             if (jwt != null) {
-                String subject = jwtUtils.getSubjectFromJwt(jwt);
-                UserDetails userDetails = userDetailsService.loadUserByUsername(subject);
+                Claims claims = jwtUtils.getClaimsFromJwt(jwt);
+                UserDetails userDetails = stateless && claims.get(JwtUtils.CLAIM_USER_ID) != null
+                        ? fromClaims(claims)
+                        : loadUser(claims.getSubject());
                 UsernamePasswordAuthenticationToken authentication =
                         new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
@@ -43,6 +66,33 @@ public class AuthTokenFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    private UserDetails fromClaims(Claims claims) {
+        Integer userId = ((Number) claims.get(JwtUtils.CLAIM_USER_ID)).intValue();
+        String username = claims.get(JwtUtils.CLAIM_USERNAME, String.class);
+        Object rawRoles = claims.get(JwtUtils.CLAIM_ROLES);
+        List<SimpleGrantedAuthority> authorities = rawRoles instanceof List<?> roles
+                ? roles.stream().map(r -> new SimpleGrantedAuthority(String.valueOf(r))).toList()
+                : List.of();
+        return new UserDetailsImpl(userId, username, claims.getSubject(), authorities);
+    }
+
+    private UserDetails loadUser(String subject) {
+        if (principalCacheTtlSeconds <= 0) {
+            return userDetailsService.loadUserByUsername(subject);
+        }
+        long now = System.currentTimeMillis();
+        CachedPrincipal cached = principalCache.get(subject);
+        if (cached != null && cached.expiresAt() > now) {
+            return cached.details();
+        }
+        UserDetails details = userDetailsService.loadUserByUsername(subject);
+        if (principalCache.size() >= PRINCIPAL_CACHE_MAX) {
+            principalCache.clear();
+        }
+        principalCache.put(subject, new CachedPrincipal(details, now + principalCacheTtlSeconds * 1000));
+        return details;
+    }
+
     private String parseJwt(HttpServletRequest request) {
         String headerAuth = request.getHeader("Authorization");
         if (StringUtils.hasText(headerAuth) && headerAuth.startsWith("Bearer ")) {
@@ -51,4 +101,3 @@ public class AuthTokenFilter extends OncePerRequestFilter {
         return null;
     }
 }
-
@@ -1,41 +1,69 @@
 package com.team.aiarticle.ai_article_backend.security.jwt;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.security.Key;
+import java.util.Collection;
 import java.util.Date;
+import java.util.List;
 
 @Component
 public class JwtUtils {
 
+    // 토큰 안에 담는 사용자 정보 클레임 (stateless 인증용)
+    public static final String CLAIM_USER_ID = "uid";
+    public static final String CLAIM_USERNAME = "uname";
+    public static final String CLAIM_ROLES = "roles";
+
     @Value("${app.jwt.secret:VGhpcy1pcy1hLWRlZmF1bHQtand0LXNlY3JldC1mb3ItZGV2}")
     private String jwtSecretBase64;
 
     @Value("${app.jwt.expirationMs:86400000}")
     private long jwtExpirationMs;
 
-    private Key key() {
+    // 시크릿 디코딩/HMAC 키 생성은 기동 시 한 번만
+    private Key key;
+    private JwtParser parser;
+
+    @PostConstruct
+    void init() {
         byte[] keyBytes = Decoders.BASE64.decode(jwtSecretBase64);
-        return Keys.hmacShaKeyFor(keyBytes);
+        this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.parser = Jwts.parser().setSigningKey(key);
     }
 
     public String generateJwtToken(String subject) {
+        return generateJwtToken(subject, null, null, List.of());
+    }
+
+    public String generateJwtToken(String subject, Integer userId, String username, Collection<String> roles) {
         Date now = new Date();
         Date exp = new Date(now.getTime() + jwtExpirationMs);
-        return Jwts.builder()
+        var builder = Jwts.builder()
                 .setSubject(subject)
                 .setIssuedAt(now)
-                .setExpiration(exp)
-                .signWith(key(), SignatureAlgorithm.HS256)
-                .compact();
+                .setExpiration(exp);
+        if (userId != null) {
+            builder.claim(CLAIM_USER_ID, userId)
+                   .claim(CLAIM_USERNAME, username)
+                   .claim(CLAIM_ROLES, roles == null ? List.of() : List.copyOf(roles));
+        }
+        return builder.signWith(key, SignatureAlgorithm.HS256).compact();
+    }
+
+    public Claims getClaimsFromJwt(String token) {
+        return parser.parseClaimsJws(token).getBody();
     }
 
     public String getSubjectFromJwt(String token) {
-        return Jwts.parser().setSigningKey(key()).parseClaimsJws(token).getBody().getSubject();
+        return getClaimsFromJwt(token).getSubject();
     }
 }
@@ -13,12 +13,23 @@ public class UserDetailsImpl implements UserDetails {
     private final String username;
     private final String email;
     private final String passwordHash;
+    private final Collection<? extends GrantedAuthority> authorities;
 
     public UserDetailsImpl(User user) {
         this.userId = user.getUserId();
         this.username = user.getUsername();
         this.email = user.getEmail();
         this.passwordHash = user.getPasswordHash();
+        this.authorities = Collections.emptyList();
+    }
+
+    // JWT 클레임만으로 만드는 principal (DB 조회 없음, 비밀번호 해시는 보관하지 않는다)
+    public UserDetailsImpl(Integer userId, String username, String email, Collection<? extends GrantedAuthority> authorities) {
+        this.userId = userId;
+        this.username = username;
+        this.email = email;
+        this.passwordHash = null;
+        this.authorities = authorities == null ? Collections.emptyList() : authorities;
     }
 
     public Integer getUserId() { return userId; }
@@ -26,7 +37,7 @@ public class UserDetailsImpl implements UserDetails {
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return Collections.emptyList();
+        return authorities;
     }
 
     @Override
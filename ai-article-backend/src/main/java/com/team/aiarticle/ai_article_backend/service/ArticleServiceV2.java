@@ -5,9 +5,10 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.team.aiarticle.ai_article_backend.dto.ArticleIngestRequest;
 import com.team.aiarticle.ai_article_backend.dto.ArticleListResponse;
 import com.team.aiarticle.ai_article_backend.entity.ArticleV2;
-import com.team.aiarticle.ai_article_backend.entity.CategoryDictV2;
 import com.team.aiarticle.ai_article_backend.repository.ArticleV2Repository;
-import com.team.aiarticle.ai_article_backend.repository.CategoryRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
@@ -17,60 +18,103 @@ import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
 import org.springframework.data.domain.PageRequest;
 import java.util.List;
-import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 public class ArticleServiceV2 {
 
     private final ArticleV2Repository articleV2Repository;
-    private final CategoryRepository categoryRepository;
+    private final CategoryRegistry categoryRegistry;
+    private final NearDuplicateIndex nearDuplicateIndex;
     private final AiApiService aiApiService;
-    private final CategoryService categoryService; // Inject CategoryService
     private final ObjectMapper objectMapper; // For converting map to JSON string
+    private final MeterRegistry meterRegistry;
 
-    public ArticleServiceV2(ArticleV2Repository articleV2Repository, CategoryRepository categoryRepository, AiApiService aiApiService, ObjectMapper objectMapper, CategoryService categoryService) {
+    public ArticleServiceV2(ArticleV2Repository articleV2Repository, CategoryRegistry categoryRegistry, AiApiService aiApiService, ObjectMapper objectMapper, NearDuplicateIndex nearDuplicateIndex,
+                            MeterRegistry meterRegistry) {
         this.articleV2Repository = articleV2Repository;
-        this.categoryRepository = categoryRepository;
+        this.meterRegistry = meterRegistry;
+        this.categoryRegistry = categoryRegistry;
+        this.nearDuplicateIndex = nearDuplicateIndex;
         this.aiApiService = aiApiService;
         this.objectMapper = objectMapper;
-        this.categoryService = categoryService;
     }
 
     @Transactional(readOnly = true)
     public List<ArticleListResponse> findAll(int limit) {
-        // 카테고리 코드 → 이름 매핑 생성
-        Map<String, String> categoryNameMap = categoryRepository.findAll().stream()
-                .collect(Collectors.toMap(
-                        CategoryDictV2::getCategoryCode,
-                        CategoryDictV2::getCategoryName,
-                        (existing, replacement) -> existing
-                ));
-
         List<ArticleV2> articles = articleV2Repository.findAllByOrderByArticleIdDesc(PageRequest.of(0, limit));
 
         return articles.stream()
                 .map(article -> {
-                    String categoryName = categoryNameMap.getOrDefault(article.getCategoryCode(), "미분류");
+                    String categoryName = categoryRegistry.nameOf(article.getCategoryCode(), "미분류");
                     return ArticleListResponse.from(article, categoryName);
                 })
                 .collect(Collectors.toList());
     }
 
+    // 수집 건수/소요 시간: article.ingest{result=analyzed|near_duplicate|failed}
     @Transactional
     public ArticleV2 createArticle(ArticleIngestRequest request) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String result = "failed";
+        try {
+            ArticleV2 saved = ingest(request);
+            result = saved.getCanonicalArticleId() != null ? "near_duplicate" : "analyzed";
+            return saved;
+        } finally {
+            sample.stop(Timer.builder("article.ingest").tag("result", result).register(meterRegistry));
+        }
+    }
+
+    private ArticleV2 ingest(ArticleIngestRequest request) {
         System.out.println("--- 기사 생성 및 AI 분석 시작 ---");
         String articleUrl = request.getArticleUrl();
         if (articleUrl == null || articleUrl.isBlank()) {
             throw new IllegalArgumentException("Article URL cannot be null or empty for ArticleIngestRequest");
         }
 
+        ArticleV2 article = new ArticleV2();
+        article.setArticleUrl(articleUrl);
+        article.setTitle(request.getTitle());
+        article.setContent(request.getContent());
+        article.setPublisher(request.getPublisher());
+
+        // 0. 유사 중복(같은 통신 기사 등)이면 AI 분석 없이 원본 기사의 결과를 재사용
+        boolean comparable = nearDuplicateIndex.isComparable(request.getContent());
+        long fingerprint = comparable ? nearDuplicateIndex.fingerprint(request.getContent()) : 0L;
+        Optional<ArticleV2> canonical = comparable
+                ? nearDuplicateIndex.findDuplicate(fingerprint).flatMap(articleV2Repository::findById)
+                        .filter(c -> StringUtils.hasText(c.getSummarize()))
+                : Optional.empty();
+
+        if (canonical.isPresent()) {
+            ArticleV2 origin = canonical.get();
+            log.info("[DEDUP] 유사 중복 기사 감지 → 원본 기사 {}의 분석 결과를 재사용합니다. url={}", origin.getArticleId(), articleUrl);
+            article.setCanonicalArticleId(origin.getArticleId());
+            article.setCategoryCode(origin.getCategoryCode());
+            article.setSummarize(origin.getSummarize());
+            article.setWord(origin.getWord());
+            article.setDefinition(origin.getDefinition());
+        } else {
+            applyAiAnalysis(article, request);
+        }
+
+        applyCrawlMetadata(article, request);
+
+        System.out.println("--- 기사 DB 저장 시도 ---");
+        ArticleV2 saved = articleV2Repository.save(article);
+        if (comparable && canonical.isEmpty()) {
+            nearDuplicateIndex.register(saved.getArticleId(), fingerprint);
+        }
+        return saved;
+    }
+
+    private void applyAiAnalysis(ArticleV2 article, ArticleIngestRequest request) {
         // 1. Fetch available categories for classification
-        List<CategoryDictV2> availableCategories = categoryService.findAll();
-        List<String> categoryNames = availableCategories.stream()
-                                                        .map(CategoryDictV2::getCategoryName)
-                                                        .collect(Collectors.toList());
+        List<String> categoryNames = categoryRegistry.names();
 
         // 2. Call AI service for summary, keywords, and category
         System.out.println("AI 서버에 분석을 요청합니다...");
@@ -86,18 +130,9 @@ public class ArticleServiceV2 {
         }
         System.out.println("AI 분석 완료. 기사 데이터를 구성합니다.");
 
-        ArticleV2 article = new ArticleV2();
-        article.setArticleUrl(articleUrl);
-        article.setTitle(request.getTitle());
-        article.setContent(request.getContent());
-        article.setPublisher(request.getPublisher());
-
         // 3. Set category from AI response
         String aiCategoryName = analyzeResponse.getCategory();
-        String finalCategoryCode = availableCategories.stream()
-            .filter(cat -> cat.getCategoryName().equalsIgnoreCase(aiCategoryName))
-            .findFirst()
-            .map(CategoryDictV2::getCategoryCode)
+        String finalCategoryCode = categoryRegistry.codeOfName(aiCategoryName)
             .orElse("UNCATEGORIZED"); // If AI category is not found, default to UNCATEGORIZED
         article.setCategoryCode(finalCategoryCode);
         System.out.println("적용된 카테고리 코드: " + finalCategoryCode);
@@ -122,7 +157,9 @@ public class ArticleServiceV2 {
         } catch (JsonProcessingException e) {
             System.out.println("키워드/정의 JSON 변환 실패: " + e.getMessage());
         }
+    }
 
+    private void applyCrawlMetadata(ArticleV2 article, ArticleIngestRequest request) {
         // Convert String dates to LocalDateTime
         if (request.getPublishedAt() != null) {
             article.setPublishedAt(LocalDateTime.parse(request.getPublishedAt(), DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss")));
@@ -132,9 +169,6 @@ public class ArticleServiceV2 {
         }
         article.setIsFullContentCrawled(request.getIsFullContentCrawled());
         article.setImage_url(request.getImage_url());
-
-        System.out.println("--- 기사 DB 저장 시도 ---");
-        return articleV2Repository.save(article);
     }
 
     @Transactional(readOnly = true)
@@ -145,19 +179,11 @@ public class ArticleServiceV2 {
 
     @Transactional(readOnly = true)
     public List<ArticleListResponse> searchByKeyword(String keyword, int limit) {
-        // 카테고리 코드 → 이름 매핑 생성
-        Map<String, String> categoryNameMap = categoryRepository.findAll().stream()
-                .collect(Collectors.toMap(
-                        CategoryDictV2::getCategoryCode,
-                        CategoryDictV2::getCategoryName,
-                        (existing, replacement) -> existing
-                ));
-
         List<ArticleV2> articles = articleV2Repository.searchByKeyword(keyword, PageRequest.of(0, limit));
 
         return articles.stream()
                 .map(article -> {
-                    String categoryName = categoryNameMap.getOrDefault(article.getCategoryCode(), "미분류");
+                    String categoryName = categoryRegistry.nameOf(article.getCategoryCode(), "미분류");
                     return ArticleListResponse.from(article, categoryName);
                 })
                 .collect(Collectors.toList());
@@ -0,0 +1,110 @@
+package com.team.aiarticle.ai_article_backend.service;
+
+import com.team.aiarticle.ai_article_backend.entity.CategoryDictV2;
+import com.team.aiarticle.ai_article_backend.repository.CategoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * category_dict_v2 전체를 메모리에 불변 스냅샷으로 들고 있는 공용 카테고리 사전.
+ * 코드→이름, 이름→코드 조회는 DB 없이 O(1)이며, TTL이 지나면 다음 조회 때 다시 읽는다.
+ * 사전을 바꾼 뒤 즉시 반영하려면 refresh()를 호출한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryRegistry {
+
+    private final CategoryRepository categoryRepository;
+
+    @Value("${app.category.cacheTtlSeconds:600}")
+    private long ttlSeconds;
+
+    private final ReentrantLock loadLock = new ReentrantLock();
+    private volatile Snapshot snapshot;
+
+    private record Snapshot(List<CategoryDictV2> sortedByName,
+                            Map<String, String> nameByCode,
+                            Map<String, String> codeByLowerName,
+                            long loadedAt) {}
+
+    /** 이름 오름차순 카테고리 목록 (수정 불가) */
+    public List<CategoryDictV2> all() {
+        return current().sortedByName();
+    }
+
+    public List<String> names() {
+        return all().stream().map(CategoryDictV2::getCategoryName).toList();
+    }
+
+    public String nameOf(String categoryCode, String defaultName) {
+        if (categoryCode == null) return defaultName;
+        return current().nameByCode().getOrDefault(categoryCode, defaultName);
+    }
+
+    /** 카테고리 이름(대소문자 무시)으로 코드 조회 */
+    public Optional<String> codeOfName(String categoryName) {
+        if (categoryName == null) return Optional.empty();
+        return Optional.ofNullable(current().codeByLowerName().get(categoryName.trim().toLowerCase(Locale.ROOT)));
+    }
+
+    public void refresh() {
+        loadLock.lock();
+        try {
+            snapshot = load();
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    private Snapshot current() {
+        Snapshot s = snapshot;
+        if (s != null && System.currentTimeMillis() - s.loadedAt() < ttlSeconds * 1000) {
+            return s;
+        }
+        // 만료 시 한 스레드만 다시 읽고, 나머지는 이전 스냅샷을 그대로 쓴다
+        if (s != null && !loadLock.tryLock()) {
+            return s;
+        }
+        if (s == null) loadLock.lock();
+        try {
+            Snapshot latest = snapshot;
+            if (latest == null || latest == s) {
+                latest = load();
+                snapshot = latest;
+            }
+            return latest;
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    private Snapshot load() {
+        // JPA 관리 엔티티가 아닌 복사본을 보관해 밖에서 바꿔도 영향이 없게 한다
+        List<CategoryDictV2> sorted = categoryRepository.findAll(Sort.by(Sort.Direction.ASC, "categoryName")).stream()
+                .map(c -> CategoryDictV2.builder()
+                        .categoryCode(c.getCategoryCode())
+                        .categoryName(c.getCategoryName())
+                        .build())
+                .toList();
+        Map<String, String> nameByCode = new HashMap<>();
+        Map<String, String> codeByLowerName = new HashMap<>();
+        for (CategoryDictV2 c : sorted) {
+            if (c.getCategoryCode() == null || c.getCategoryName() == null) continue;
+            nameByCode.putIfAbsent(c.getCategoryCode(), c.getCategoryName());
+            codeByLowerName.putIfAbsent(c.getCategoryName().toLowerCase(Locale.ROOT), c.getCategoryCode());
+        }
+        log.info("[CategoryRegistry] loaded {} categories", sorted.size());
+        return new Snapshot(sorted, Map.copyOf(nameByCode), Map.copyOf(codeByLowerName), System.currentTimeMillis());
+    }
+}
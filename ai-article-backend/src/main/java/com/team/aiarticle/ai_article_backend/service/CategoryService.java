@@ -2,12 +2,10 @@ package com.team.aiarticle.ai_article_backend.service;
 
 import com.team.aiarticle.ai_article_backend.dto.CategoryWithKeywords;
 import com.team.aiarticle.ai_article_backend.entity.CategoryDictV2;
-import com.team.aiarticle.ai_article_backend.repository.CategoryRepository;
 import com.team.aiarticle.ai_article_backend.repository.ExtractedKeywordV2Repository;
 import java.util.List;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -16,11 +14,11 @@ public class CategoryService {
 
     private static final int KEYWORD_LIMIT = 10;
 
-    private final CategoryRepository categoryRepository;
+    private final CategoryRegistry categoryRegistry;
     private final ExtractedKeywordV2Repository extractedKeywordRepository;
 
     public List<CategoryWithKeywords> getCategoriesWithTrendingKeywords() {
-        List<CategoryDictV2> categories = categoryRepository.findAll(Sort.by(Sort.Direction.ASC, "categoryName"));
+        List<CategoryDictV2> categories = categoryRegistry.all();
         return categories.stream()
                 .map(category -> new CategoryWithKeywords(
                         category.getCategoryCode(),
@@ -34,6 +32,6 @@ public class CategoryService {
     }
 
     public List<CategoryDictV2> findAll() {
-        return categoryRepository.findAll(Sort.by(Sort.Direction.ASC, "categoryName"));
+        return categoryRegistry.all();
     }
 }
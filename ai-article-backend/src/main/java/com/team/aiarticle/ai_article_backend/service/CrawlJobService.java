@@ -0,0 +1,158 @@
+package com.team.aiarticle.ai_article_backend.service;
+
+import com.team.aiarticle.ai_article_backend.config.AsyncConfig;
+import com.team.aiarticle.ai_article_backend.dto.ManualCrawlResponse;
+import com.team.aiarticle.ai_article_backend.repository.ArticleV2Repository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 사용자 요청(/api/articles/analyze) 크롤링 작업 큐.
+ * - 같은 URL이 처리 중이면 새 작업을 만들지 않고 진행 중인 작업을 공유한다(single-flight)
+ * - 동시 실행 수와 대기열 길이를 제한해 요청이 몰려도 크롤러 프로세스가 폭증하지 않게 한다
+ * - 이미 articlev2에 있는 URL은 크롤링 없이 바로 완료 처리한다
+ */
+@Slf4j
+@Service
+public class CrawlJobService {
+
+    public enum Status { QUEUED, RUNNING, DONE, FAILED }
+
+    private final CrawlingBridgeService crawlingBridgeService;
+    private final ArticleV2Repository articleV2Repository;
+    private final ThreadPoolTaskExecutor executor;
+    private final Duration retention;
+
+    private final Map<String, CrawlJob> inFlightByUrl = new ConcurrentHashMap<>();
+    private final Map<String, CrawlJob> jobsById = new ConcurrentHashMap<>();
+
+    public CrawlJobService(
+            CrawlingBridgeService crawlingBridgeService,
+            ArticleV2Repository articleV2Repository,
+            @Qualifier(AsyncConfig.CRAWL_EXECUTOR) ThreadPoolTaskExecutor executor,
+            @Value("${crawler.queue.retention-minutes:30}") long retentionMinutes
+    ) {
+        this.crawlingBridgeService = crawlingBridgeService;
+        this.articleV2Repository = articleV2Repository;
+        this.retention = Duration.ofMinutes(Math.max(1, retentionMinutes));
+        this.executor = executor;
+    }
+
+    public static final class CrawlJob {
+        private final String jobId = UUID.randomUUID().toString();
+        private final String articleUrl;
+        private final Instant createdAt = Instant.now();
+        private final CompletableFuture<Integer> future = new CompletableFuture<>();
+        private volatile Status status = Status.QUEUED;
+        private volatile Integer articleId;
+        private volatile String error;
+        private volatile Instant finishedAt;
+
+        private CrawlJob(String articleUrl) {
+            this.articleUrl = articleUrl;
+        }
+
+        public String getJobId() { return jobId; }
+        public String getArticleUrl() { return articleUrl; }
+        public Status getStatus() { return status; }
+        public Integer getArticleId() { return articleId; }
+        public String getError() { return error; }
+        public Instant getCreatedAt() { return createdAt; }
+        public Instant getFinishedAt() { return finishedAt; }
+
+        /** 완료 시 article_id, 실패 시 예외로 끝나는 future */
+        public CompletableFuture<Integer> future() { return future; }
+
+        private void complete(Integer id) {
+            this.articleId = id;
+            this.status = Status.DONE;
+            this.finishedAt = Instant.now();
+            future.complete(id);
+        }
+
+        private void fail(String message) {
+            this.error = message;
+            this.status = Status.FAILED;
+            this.finishedAt = Instant.now();
+            future.completeExceptionally(new IllegalStateException(message));
+        }
+    }
+
+    /**
+     * URL 크롤링 작업을 등록한다. 이미 저장된 기사면 완료된 작업을, 처리 중인 URL이면 기존 작업을 돌려준다.
+     * 대기열이 가득 차면 RejectedExecutionException을 던진다.
+     */
+    public CrawlJob submit(String articleUrl) {
+        purgeExpired();
+        String url = articleUrl.trim();
+
+        Optional<Integer> existing = articleV2Repository.findIdByArticleUrl(url);
+        if (existing.isPresent()) {
+            CrawlJob done = new CrawlJob(url);
+            done.complete(existing.get());
+            jobsById.put(done.getJobId(), done);
+            return done;
+        }
+
+        CrawlJob created = new CrawlJob(url);
+        CrawlJob job = inFlightByUrl.putIfAbsent(url, created);
+        if (job != null) return job;
+
+        jobsById.put(created.getJobId(), created);
+        try {
+            executor.execute(() -> run(created));
+        } catch (RejectedExecutionException e) {
+            inFlightByUrl.remove(url, created);
+            jobsById.remove(created.getJobId());
+            log.warn("[CrawlJob] queue full, rejected: {}", url);
+            throw e;
+        }
+        return created;
+    }
+
+    public Optional<CrawlJob> find(String jobId) {
+        return Optional.ofNullable(jobsById.get(jobId));
+    }
+
+    private void run(CrawlJob job) {
+        job.status = Status.RUNNING;
+        try {
+            ManualCrawlResponse result = crawlingBridgeService.crawlSingleArticle(job.getArticleUrl());
+            if (!result.success()) {
+                log.error("[CrawlJob] crawling failed with exit code {}: {}", result.exitCode(), result.log());
+                job.fail("Article analysis failed");
+                return;
+            }
+            Optional<Integer> id = articleV2Repository.findIdByArticleUrl(job.getArticleUrl());
+            if (id.isPresent()) {
+                job.complete(id.get());
+            } else {
+                log.warn("[CrawlJob] article not found after crawling: {}", job.getArticleUrl());
+                job.fail("Article not found after crawling");
+            }
+        } catch (Exception e) {
+            log.error("[CrawlJob] error crawling {}: {}", job.getArticleUrl(), e.getMessage(), e);
+            job.fail(e.getMessage());
+        } finally {
+            inFlightByUrl.remove(job.getArticleUrl(), job);
+        }
+    }
+
+    // 끝난 작업은 보존 기간이 지나면 상태 조회 대상에서 제거
+    private void purgeExpired() {
+        Instant cutoff = Instant.now().minus(retention);
+        jobsById.values().removeIf(j -> j.getFinishedAt() != null && j.getFinishedAt().isBefore(cutoff));
+    }
+}
@@ -0,0 +1,206 @@
+package com.team.aiarticle.ai_article_backend.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * crawling.py --worker 프로세스를 몇 개 띄워 두고 stdin/stdout JSON 라인으로 URL을 넘기는 풀.
+ * URL마다 파이썬 인터프리터를 새로 띄우지 않으므로 수동 크롤링 오버헤드가 요청 처리 시간 수준으로 줄어든다.
+ * 워커는 첫 요청 때 필요한 만큼만 띄우고, 타임아웃/오류가 난 워커는 버린 뒤 다음 요청에서 새로 만든다.
+ * 응답 대기(stdout readLine)는 공용 ForkJoinPool이 아닌 풀 전용 데몬 스레드에서 블로킹한다.
+ */
+@Component
+public class CrawlerWorkerPool {
+
+    private static final Logger log = LoggerFactory.getLogger(CrawlerWorkerPool.class);
+
+    private final ObjectMapper objectMapper;
+    private final int maxWorkers;
+    private final BlockingQueue<Worker> idle;
+    private final AtomicInteger alive = new AtomicInteger();
+    private final AtomicLong requestSeq = new AtomicLong();
+    private final ExecutorService readers;
+    private volatile boolean closed;
+
+    public CrawlerWorkerPool(
+            ObjectMapper objectMapper,
+            @Value("${crawler.workers.size:2}") int maxWorkers
+    ) {
+        this.objectMapper = objectMapper;
+        this.maxWorkers = Math.max(1, maxWorkers);
+        this.idle = new ArrayBlockingQueue<>(this.maxWorkers);
+        // 워커당 읽기 하나. 타임아웃 난 읽기는 워커를 버려 stdout이 닫히면 끝나므로 캐시 풀로 충분하다
+        AtomicInteger seq = new AtomicInteger();
+        this.readers = Executors.newCachedThreadPool(r -> {
+            Thread t = new Thread(r, "crawler-worker-reader-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    public record Result(boolean success, String title, String log) {}
+
+    /** 워커가 제한 시간 안에 응답하지 않았거나 빈 워커를 얻지 못함. 같은 URL을 단발성 프로세스로 다시 돌리면 안 된다 */
+    public static class WorkerTimeoutException extends IllegalStateException {
+        public WorkerTimeoutException(String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * 워커 하나를 빌려 URL을 처리한다. 빈 워커가 없고 최대 개수에 도달했으면 timeout 동안 기다린다.
+     */
+    public Result crawl(List<String> command, String articleUrl, Duration timeout) {
+        if (closed) throw new IllegalStateException("크롤러 워커 풀이 종료되었습니다.");
+        Worker worker = borrow(command, timeout);
+        boolean healthy = false;
+        try {
+            Result result = worker.send(requestSeq.incrementAndGet(), articleUrl, timeout, readers);
+            healthy = true;
+            return result;
+        } finally {
+            // 정상 응답한 워커만 풀로 돌려보내 재사용한다
+            if (!healthy || closed || !idle.offer(worker)) discard(worker);
+        }
+    }
+
+    private Worker borrow(List<String> command, Duration timeout) {
+        Worker w = pollAlive();
+        if (w != null) return w;
+        if (alive.incrementAndGet() <= maxWorkers) {
+            try {
+                return Worker.start(command, objectMapper);
+            } catch (IOException e) {
+                alive.decrementAndGet();
+                throw new IllegalStateException("크롤러 워커 실행에 실패했습니다.", e);
+            }
+        }
+        alive.decrementAndGet();
+        try {
+            w = idle.poll(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("크롤러 워커 대기 중 인터럽트되었습니다.", e);
+        }
+        if (w == null) throw new WorkerTimeoutException("사용 가능한 크롤러 워커가 없습니다.");
+        if (!w.process.isAlive()) {
+            discard(w);
+            return borrow(command, timeout);
+        }
+        return w;
+    }
+
+    private Worker pollAlive() {
+        Worker w;
+        while ((w = idle.poll()) != null) {
+            if (w.process.isAlive()) return w;
+            discard(w);
+        }
+        return null;
+    }
+
+    private void discard(Worker w) {
+        alive.decrementAndGet();
+        w.close();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        closed = true;
+        Worker w;
+        while ((w = idle.poll()) != null) discard(w);
+        readers.shutdownNow();
+    }
+
+    private static final class Worker {
+        private final Process process;
+        private final BufferedWriter stdin;
+        private final BufferedReader stdout;
+        private final ObjectMapper objectMapper;
+
+        private Worker(Process process, ObjectMapper objectMapper) {
+            this.process = process;
+            this.objectMapper = objectMapper;
+            this.stdin = new BufferedWriter(new OutputStreamWriter(process.getOutputStream(), StandardCharsets.UTF_8));
+            this.stdout = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8));
+        }
+
+        static Worker start(List<String> command, ObjectMapper objectMapper) throws IOException {
+            ProcessBuilder pb = new ProcessBuilder(command);
+            pb.redirectError(ProcessBuilder.Redirect.INHERIT);
+            pb.environment().put("PYTHONIOENCODING", "utf-8");
+            pb.environment().put("PYTHONUNBUFFERED", "1");
+            log.info("[CrawlerWorker] starting worker: {}", command);
+            return new Worker(pb.start(), objectMapper);
+        }
+
+        Result send(long id, String url, Duration timeout, ExecutorService readers) {
+            try {
+                stdin.write(objectMapper.writeValueAsString(Map.of("id", id, "url", url)));
+                stdin.newLine();
+                stdin.flush();
+                JsonNode node = CompletableFuture.supplyAsync(() -> readResponse(id), readers)
+                        .get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+                return new Result(node.path("ok").asBoolean(false),
+                        node.path("title").asText(null),
+                        node.path("log").asText(""));
+            } catch (TimeoutException e) {
+                throw new WorkerTimeoutException("크롤러 워커가 제한 시간 내에 응답하지 않았습니다.");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("크롤러 워커 호출이 인터럽트되었습니다.", e);
+            } catch (IOException | ExecutionException e) {
+                throw new IllegalStateException("크롤러 워커 통신에 실패했습니다.", e);
+            }
+        }
+
+        private JsonNode readResponse(long id) {
+            try {
+                String line;
+                while ((line = stdout.readLine()) != null) {
+                    // import 시점 경고 등 프로토콜이 아닌 출력은 건너뛴다
+                    if (!line.startsWith("{")) continue;
+                    JsonNode node = objectMapper.readTree(line);
+                    if (node.path("id").asLong(-1) == id) return node;
+                }
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+            throw new IllegalStateException("크롤러 워커 프로세스가 종료되었습니다.");
+        }
+
+        void close() {
+            try {
+                stdin.close();
+            } catch (IOException ignored) {
+                // 이미 종료된 프로세스
+            }
+            process.destroy();
+        }
+    }
+}
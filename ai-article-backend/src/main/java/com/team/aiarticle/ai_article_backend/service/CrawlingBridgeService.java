@@ -31,6 +31,8 @@ public class CrawlingBridgeService {
     private final Duration timeout;
     private final double fastSleepMin;
     private final double fastSleepMax;
+    private final CrawlerWorkerPool workerPool;
+    private final boolean workerMode;
 
     public CrawlingBridgeService(
             @Value("${crawler.python:python3}") String pythonCommand,
@@ -38,7 +40,9 @@ public class CrawlingBridgeService {
             @Value("${crawler.backend-endpoint:http://localhost:8080/api/articles}") String backendEndpoint,
             @Value("${crawler.timeout-seconds:120}") long timeoutSeconds,
             @Value("${crawler.sleep-min:0.1}") double fastSleepMin,
-            @Value("${crawler.sleep-max:0.3}") double fastSleepMax
+            @Value("${crawler.sleep-max:0.3}") double fastSleepMax,
+            @Value("${crawler.mode:worker}") String mode,
+            CrawlerWorkerPool workerPool
     ) {
         this.pythonCommand = pythonCommand;
         this.scriptPath = scriptPath;
@@ -46,6 +50,8 @@ public class CrawlingBridgeService {
         this.timeout = Duration.ofSeconds(Math.max(1, timeoutSeconds));
         this.fastSleepMin = Math.min(fastSleepMin, fastSleepMax);
         this.fastSleepMax = Math.max(fastSleepMin, fastSleepMax);
+        this.workerPool = workerPool;
+        this.workerMode = "worker".equalsIgnoreCase(mode);
     }
 
     public ManualCrawlResponse crawlSingleArticle(String articleUrl) {
@@ -58,6 +64,19 @@ public class CrawlingBridgeService {
             throw new IllegalStateException("crawling.py를 찾을 수 없습니다: " + script);
         }
 
+        if (workerMode) {
+            try {
+                return crawlWithWorker(script, articleUrl);
+            } catch (CrawlerWorkerPool.WorkerTimeoutException e) {
+                // 제한 시간을 이미 다 썼으므로 같은 URL을 단발성 프로세스로 다시 돌리지 않는다
+                throw e;
+            } catch (IllegalStateException e) {
+                if (Thread.currentThread().isInterrupted()) throw e;
+                // 워커 기동/통신 실패일 때만 단발성 프로세스로 재시도
+                log.warn("크롤러 워커 처리 실패, 단발성 프로세스로 재시도합니다: {}", e.getMessage());
+            }
+        }
+
         List<String> command = new ArrayList<>();
         String pythonExecutable = resolvePythonExecutable();
         command.add(pythonExecutable);
@@ -113,6 +132,20 @@ public class CrawlingBridgeService {
         return new ManualCrawlResponse(success, exitCode, logBuilder.toString());
     }
 
+    /**
+     * 상주 워커(crawling.py --worker)로 처리한다. 인터프리터/모듈 로딩 비용은 워커 기동 시 한 번만 든다.
+     */
+    private ManualCrawlResponse crawlWithWorker(Path script, String articleUrl) {
+        List<String> command = List.of(
+                resolvePythonExecutable(),
+                script.toString(),
+                "--worker",
+                "--backend-endpoint", backendEndpoint
+        );
+        CrawlerWorkerPool.Result result = workerPool.crawl(command, articleUrl, timeout);
+        return new ManualCrawlResponse(result.success(), result.success() ? 0 : 1, result.log());
+    }
+
     private String resolvePythonExecutable() {
         Path configuredPath = resolveToAbsolute(pythonCommand);
         if (isUsableExecutable(configuredPath)) {
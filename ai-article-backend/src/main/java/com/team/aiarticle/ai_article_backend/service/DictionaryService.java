@@ -0,0 +1,123 @@
+package com.team.aiarticle.ai_article_backend.service;
+
+import com.team.aiarticle.ai_article_backend.common.CacheMeters;
+import com.team.aiarticle.ai_article_backend.entity.WordDefinition;
+import com.team.aiarticle.ai_article_backend.repository.WordDefinitionRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 단어 정의 조회 서비스.
+ * word 인덱스로 한 건씩 조회하고, 자주 찾는 단어는 LRU 캐시에 둔다(없는 단어도 캐시해 반복 미스를 막음).
+ */
+@Service
+public class DictionaryService {
+
+    private static final WordDefinition MISSING = new WordDefinition();
+
+    @Autowired(required = false)
+    private WordDefinitionRepository wordDefinitionRepository;
+
+    private final Map<String, WordDefinition> cache;
+    private final CacheMeters cacheMeters;
+
+    public DictionaryService(@Value("${app.dictionary.cacheSize:5000}") int cacheSize, MeterRegistry meterRegistry) {
+        int max = Math.max(16, cacheSize);
+        this.cache = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, WordDefinition> eldest) {
+                return size() > max;
+            }
+        };
+        this.cacheMeters = new CacheMeters(meterRegistry, "dictionary", cache);
+    }
+
+    public boolean isAvailable() {
+        return wordDefinitionRepository != null;
+    }
+
+    public Optional<WordDefinition> find(String word) {
+        if (!isAvailable() || word == null || word.isBlank()) return Optional.empty();
+        String key = key(word);
+        WordDefinition cached = cacheGet(key);
+        if (cached != null) {
+            return cached == MISSING ? Optional.empty() : Optional.of(cached);
+        }
+        Optional<WordDefinition> found = wordDefinitionRepository.findFirstByWord(word.trim());
+        cachePut(key, found.orElse(MISSING));
+        return found;
+    }
+
+    /** 여러 단어를 한 번에 조회한다. 캐시에 없는 단어만 IN 쿼리 한 번으로 가져온다. 없는 단어는 결과에서 빠진다. */
+    public Map<String, String> findAll(Collection<String> words) {
+        Map<String, String> result = new LinkedHashMap<>();
+        if (!isAvailable() || words == null) return result;
+
+        List<String> misses = new ArrayList<>();
+        for (String w : words) {
+            if (w == null || w.isBlank() || result.containsKey(w)) continue;
+            WordDefinition cached = cacheGet(key(w));
+            if (cached == null) {
+                misses.add(w.trim());
+            } else if (cached != MISSING) {
+                result.put(w, cached.getDefinition());
+            }
+        }
+        if (misses.isEmpty()) return result;
+
+        Map<String, WordDefinition> loaded = new LinkedHashMap<>();
+        for (WordDefinition wd : wordDefinitionRepository.findByWordIn(misses)) {
+            loaded.putIfAbsent(key(wd.getWord()), wd);
+        }
+        for (String w : misses) {
+            WordDefinition wd = loaded.get(key(w));
+            cachePut(key(w), wd != null ? wd : MISSING);
+            if (wd != null) result.put(w, wd.getDefinition());
+        }
+        return result;
+    }
+
+    /** 같은 단어(대소문자 무시)가 있으면 정의를 갱신하고, 없으면 새로 만든다. */
+    @Transactional
+    public WordDefinition save(String word, String definition) {
+        String trimmed = word.trim();
+        WordDefinition wd = wordDefinitionRepository.findFirstByWord(trimmed).orElseGet(WordDefinition::new);
+        wd.setWord(trimmed);
+        wd.setDefinition(definition);
+        WordDefinition saved = wordDefinitionRepository.save(wd);
+        synchronized (cache) {
+            cache.remove(key(trimmed));
+        }
+        return saved;
+    }
+
+    private WordDefinition cacheGet(String key) {
+        WordDefinition cached;
+        synchronized (cache) {
+            cached = cache.get(key);
+        }
+        if (cached != null) cacheMeters.hit(); else cacheMeters.miss();
+        return cached;
+    }
+
+    private void cachePut(String key, WordDefinition value) {
+        synchronized (cache) {
+            cache.put(key, value);
+        }
+    }
+
+    private static String key(String word) {
+        return word.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,121 @@
+package com.team.aiarticle.ai_article_backend.service;
+
+import com.team.aiarticle.ai_article_backend.nlp.SimHash;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 유사 중복 기사 탐지용 SimHash LSH 인덱스 (메모리).
+ * 64비트 지문을 16비트 밴드 4개로 나눠 밴드 값별 버킷에 넣는다. 해밍 거리 3 이하인 두 지문은
+ * 비둘기집 원리로 적어도 한 밴드가 같으므로 같은 버킷 후보만 비교하면 된다.
+ * 원본(canonical) 기사만 등록하고, 최근 maxEntries개를 넘으면 오래된 것부터 뺀다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NearDuplicateIndex {
+
+    private static final int BANDS = 4;
+    private static final int BAND_BITS = 64 / BANDS;
+
+    private final JdbcTemplate jdbc;
+
+    @Value("${app.dedup.maxHamming:3}")
+    private int maxHamming;
+
+    // 너무 짧은 본문은 지문이 불안정해 비교하지 않는다
+    @Value("${app.dedup.minChars:200}")
+    private int minChars;
+
+    @Value("${app.dedup.maxEntries:20000}")
+    private int maxEntries;
+
+    private final Map<Long, Deque<long[]>> buckets = new HashMap<>(); // key=(band<<16)|value, 원소={articleId, fp}
+    private final Deque<long[]> order = new ArrayDeque<>();
+    private boolean loaded;
+
+    public boolean isComparable(String content) {
+        return content != null && content.length() >= minChars;
+    }
+
+    public long fingerprint(String content) {
+        return SimHash.of(content);
+    }
+
+    /** 지문이 가까운 기존 원본 기사 id */
+    public synchronized Optional<Integer> findDuplicate(long fp) {
+        ensureLoaded();
+        int best = -1;
+        int bestDist = Integer.MAX_VALUE;
+        for (int b = 0; b < BANDS; b++) {
+            Deque<long[]> bucket = buckets.get(bandKey(b, fp));
+            if (bucket == null) continue;
+            for (long[] e : bucket) {
+                int d = SimHash.distance(fp, e[1]);
+                if (d <= maxHamming && d < bestDist) {
+                    bestDist = d;
+                    best = (int) e[0];
+                }
+            }
+        }
+        return best >= 0 ? Optional.of(best) : Optional.empty();
+    }
+
+    public synchronized void register(int articleId, long fp) {
+        long[] entry = {articleId, fp};
+        for (int b = 0; b < BANDS; b++) {
+            buckets.computeIfAbsent(bandKey(b, fp), k -> new ArrayDeque<>()).add(entry);
+        }
+        order.addLast(entry);
+        while (order.size() > Math.max(100, maxEntries)) {
+            long[] old = order.pollFirst();
+            for (int b = 0; b < BANDS; b++) {
+                Deque<long[]> bucket = buckets.get(bandKey(b, old[1]));
+                if (bucket == null) continue;
+                bucket.remove(old);
+                if (bucket.isEmpty()) buckets.remove(bandKey(b, old[1]));
+            }
+        }
+    }
+
+    private static long bandKey(int band, long fp) {
+        long value = (fp >>> (band * BAND_BITS)) & 0xFFFFL;
+        return ((long) band << BAND_BITS) | value;
+    }
+
+    // 최초 사용 시 최근 원본 기사들의 지문을 계산해 채운다
+    private void ensureLoaded() {
+        if (loaded) return;
+        List<long[]> recent = new ArrayList<>();
+        jdbc.query("""
+            SELECT article_id, content
+            FROM articlev2
+            WHERE canonical_article_id IS NULL
+            ORDER BY article_id DESC
+            LIMIT ?
+        """, rs -> {
+            String content = rs.getString(2);
+            if (isComparable(content)) {
+                recent.add(new long[]{rs.getInt(1), fingerprint(content)});
+            }
+        }, Math.max(100, maxEntries));
+        // 오래된 것부터 등록해야 maxEntries 초과 시 오래된 기사부터 밀려난다
+        for (int i = recent.size() - 1; i >= 0; i--) {
+            register((int) recent.get(i)[0], recent.get(i)[1]);
+        }
+        // 조회가 실패하면 다음 호출에서 다시 적재한다
+        loaded = true;
+        log.info("[DEDUP] simhash index loaded: {} articles", recent.size());
+    }
+}
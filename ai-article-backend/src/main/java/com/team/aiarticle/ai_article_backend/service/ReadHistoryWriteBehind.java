@@ -0,0 +1,128 @@
+package com.team.aiarticle.ai_article_backend.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 기사 조회 이력 write-behind 버퍼.
+ * 조회 이벤트는 메모리에만 쌓고 (user, article) 단위로 마지막 read_at만 남긴 뒤,
+ * 주기적으로 한 번의 batch INSERT ... ON DUPLICATE KEY UPDATE로 반영한다.
+ * (user_read_history의 ux_read_history_user_article 유니크 키 필요: db/user_read_history_unique.sql)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReadHistoryWriteBehind {
+
+    private static final String UPSERT_SQL = """
+        INSERT INTO user_read_history (user_id, article_id, read_at)
+        VALUES (?, ?, ?)
+        ON DUPLICATE KEY UPDATE read_at = GREATEST(COALESCE(read_at, VALUES(read_at)), VALUES(read_at))
+    """;
+
+    private final JdbcTemplate jdbc;
+
+    // 대기 건수가 이 값을 넘으면 주기를 기다리지 않고 바로 flush
+    @Value("${app.history.writeBehind.maxPending:5000}")
+    private int maxPending;
+
+    @Value("${app.history.writeBehind.batchSize:500}")
+    private int batchSize;
+
+    // key = (userId << 32) | articleId
+    private final Map<Long, LocalDateTime> pending = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public void enqueue(int userId, int articleId, LocalDateTime readAt) {
+        LocalDateTime at = readAt != null ? readAt : LocalDateTime.now();
+        pending.merge(key(userId, articleId), at, (a, b) -> a.isAfter(b) ? a : b);
+        if (pending.size() >= maxPending && flushLock.tryLock()) {
+            try {
+                flushInternal();
+            } finally {
+                flushLock.unlock();
+            }
+        }
+    }
+
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    @Scheduled(fixedDelayString = "${app.history.writeBehind.flushMs:2000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushInternal();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void flushInternal() {
+        if (pending.isEmpty()) return;
+
+        List<Object[]> rows = new ArrayList<>(pending.size());
+        for (Long k : pending.keySet()) {
+            LocalDateTime at = pending.remove(k);
+            if (at == null) continue;
+            rows.add(new Object[]{(int) (k >>> 32), (int) (long) k, Timestamp.valueOf(at)});
+        }
+        if (rows.isEmpty()) return;
+
+        int step = Math.max(1, batchSize);
+        for (int from = 0; from < rows.size(); from += step) {
+            List<Object[]> chunk = rows.subList(from, Math.min(rows.size(), from + step));
+            try {
+                jdbc.batchUpdate(UPSERT_SQL, chunk);
+            } catch (Exception e) {
+                // 삭제된 사용자/기사(FK 위반) 등이 섞이면 건별로 다시 시도하고 무결성 위반 건만 버린다
+                log.warn("[READ-HISTORY] batch flush failed ({} rows), retrying row by row: {}", chunk.size(), e.getMessage());
+                for (int i = 0; i < chunk.size(); i++) {
+                    Object[] row = chunk.get(i);
+                    try {
+                        jdbc.update(UPSERT_SQL, row);
+                    } catch (DataIntegrityViolationException rowError) {
+                        log.warn("[READ-HISTORY] drop userId={} articleId={}: {}", row[0], row[1], rowError.getMessage());
+                    } catch (Exception rowError) {
+                        // 연결 끊김/타임아웃 등은 이 행부터 남은 행을 모두 되돌려 다음 flush에서 다시 시도
+                        List<Object[]> rest = rows.subList(from + i, rows.size());
+                        rest.forEach(this::requeue);
+                        log.warn("[READ-HISTORY] flush aborted, {} rows requeued: {}", rest.size(), rowError.getMessage());
+                        return;
+                    }
+                }
+            }
+        }
+        log.debug("[READ-HISTORY] flushed {} rows", rows.size());
+    }
+
+    // 그 사이 새로 들어온 조회가 있으면 더 늦은 read_at을 남긴다
+    private void requeue(Object[] row) {
+        LocalDateTime at = ((Timestamp) row[2]).toLocalDateTime();
+        pending.merge(key((int) row[0], (int) row[1]), at, (x, y) -> x.isAfter(y) ? x : y);
+    }
+
+    private static long key(int userId, int articleId) {
+        return ((long) userId << 32) | (articleId & 0xFFFFFFFFL);
+    }
+}
@@ -3,6 +3,10 @@ package com.team.aiarticle.ai_article_backend.service;
 import com.team.aiarticle.ai_article_backend.entity.CategoryKeywordTrendSnapshot;
 import com.team.aiarticle.ai_article_backend.entity.Keyword;
 import com.team.aiarticle.ai_article_backend.repository.CategoryKeywordTrendSnapshotRepository;
+import com.team.aiarticle.ai_article_backend.scheduler.AdminJobs;
+import com.team.aiarticle.ai_article_backend.service.admin.ChunkedPurger;
+import com.team.aiarticle.ai_article_backend.service.admin.JobProgressRegistry;
+import com.team.aiarticle.ai_article_backend.service.admin.PartitionMaintenanceService;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import jakarta.transaction.Transactional;
@@ -18,6 +22,9 @@ import java.util.List;
 public class TrendAggregationService {
 
     private final CategoryKeywordTrendSnapshotRepository snapshotRepo;
+    private final ChunkedPurger purger;
+    private final PartitionMaintenanceService partitions;
+    private final JobProgressRegistry progress;
 
     @PersistenceContext
     private EntityManager em;
@@ -32,78 +39,72 @@ public class TrendAggregationService {
     @Transactional
     public void aggregateLast24hForAllCategories() {
         LocalDateTime windowEnd = LocalDateTime.now();
-        LocalDateTime windowStart = windowEnd.minusHours(windowHours);
-
-        List<String> categories = fetchCategoriesForWindow(windowStart, windowEnd);
-        for (String cat : categories) {
-            List<Object[]> rows = "v2".equalsIgnoreCase(pipelineMode)
-                    ? CategoryTrendQueries.aggregateByCategoryV2(em, cat, windowStart, windowEnd)
-                    : aggregateByCategory(cat, windowStart, windowEnd);
-
-            for (Object[] r : rows) {
-                Integer keywordId = ((Number) r[0]).intValue();
-                Long docCount     = ((Number) r[1]).longValue();
-                Double scoreSum   = ((Number) r[2]).doubleValue();
-                Double scoreAvg   = ((Number) r[3]).doubleValue();
-
-                CategoryKeywordTrendSnapshot snap = CategoryKeywordTrendSnapshot.builder()
-                        .categoryCode(cat)
-                        .keyword(em.getReference(Keyword.class, keywordId))
-                        .windowStart(windowStart)
-                        .windowEnd(windowEnd)
-                        .docCount(docCount.intValue())
-                        .scoreSum(scoreSum)
-                        .scoreAvg(scoreAvg)
-                        .generatedAt(LocalDateTime.now())
-                        .build();
-                snapshotRepo.save(snap);
-            }
-        }
+        aggregate(AdminJobs.AGGREGATE_TREND_24H, windowEnd.minusHours(windowHours), windowEnd);
     }
 
     // 수동 트리거용: 임의의 윈도우로 집계
     @Transactional
     public void aggregateForWindow(LocalDateTime windowStart, LocalDateTime windowEnd) {
+        aggregate("aggregateTrendWindow", windowStart, windowEnd);
+    }
+
+    // 진행률은 카테고리 단위로 올린다(분모 = 윈도우 안의 카테고리 수)
+    private void aggregate(String jobName, LocalDateTime windowStart, LocalDateTime windowEnd) {
         List<String> categories = fetchCategoriesForWindow(windowStart, windowEnd);
-        for (String cat : categories) {
-            List<Object[]> rows = "v2".equalsIgnoreCase(pipelineMode)
-                    ? CategoryTrendQueries.aggregateByCategoryV2(em, cat, windowStart, windowEnd)
-                    : aggregateByCategory(cat, windowStart, windowEnd);
-
-            for (Object[] r : rows) {
-                Integer keywordId = ((Number) r[0]).intValue();
-                Long docCount     = ((Number) r[1]).longValue();
-                Double scoreSum   = ((Number) r[2]).doubleValue();
-                Double scoreAvg   = ((Number) r[3]).doubleValue();
-
-                CategoryKeywordTrendSnapshot snap = CategoryKeywordTrendSnapshot.builder()
-                        .categoryCode(cat)
-                        .keyword(em.getReference(Keyword.class, keywordId))
-                        .windowStart(windowStart)
-                        .windowEnd(windowEnd)
-                        .docCount(docCount.intValue())
-                        .scoreSum(scoreSum)
-                        .scoreAvg(scoreAvg)
-                        .generatedAt(LocalDateTime.now())
-                        .build();
-                snapshotRepo.save(snap);
+        JobProgressRegistry.Tracker tracker = progress.start(jobName, -1, categories.size());
+        try {
+            for (String cat : categories) {
+                List<Object[]> rows = "v2".equalsIgnoreCase(pipelineMode)
+                        ? CategoryTrendQueries.aggregateByCategoryV2(em, cat, windowStart, windowEnd)
+                        : aggregateByCategory(cat, windowStart, windowEnd);
+
+                for (Object[] r : rows) {
+                    Integer keywordId = ((Number) r[0]).intValue();
+                    Long docCount     = ((Number) r[1]).longValue();
+                    Double scoreSum   = ((Number) r[2]).doubleValue();
+                    Double scoreAvg   = ((Number) r[3]).doubleValue();
+
+                    CategoryKeywordTrendSnapshot snap = CategoryKeywordTrendSnapshot.builder()
+                            .categoryCode(cat)
+                            .keyword(em.getReference(Keyword.class, keywordId))
+                            .windowStart(windowStart)
+                            .windowEnd(windowEnd)
+                            .docCount(docCount.intValue())
+                            .scoreSum(scoreSum)
+                            .scoreAvg(scoreAvg)
+                            .generatedAt(LocalDateTime.now())
+                            .build();
+                    snapshotRepo.save(snap);
+                }
+                tracker.advance(1, 0);
             }
+        } catch (RuntimeException e) {
+            tracker.finish(false);
+            throw e;
         }
+        tracker.finish(true);
     }
 
     // 스냅샷 정리(기본 windowHours 이전 데이터 삭제)
-    @Transactional
     public long purgeOldSnapshots() {
-        LocalDateTime threshold = LocalDateTime.now().minusHours(windowHours);
-        return snapshotRepo.deleteByGeneratedAtBefore(threshold);
+        return purgeOldSnapshots(-1L, 0);
     }
 
     // keepHours 기준으로 수동 삭제
-    @Transactional
     public long purgeOldSnapshots(long keepHours) {
+        return purgeOldSnapshots(-1L, keepHours);
+    }
+
+    // PK 구간 단위로 나눠 지운다(트랜잭션 없이 구간마다 커밋). runId가 있으면 진행 상황 기록/재개
+    public long purgeOldSnapshots(long runId, long keepHours) {
         long hours = (keepHours <= 0) ? windowHours : keepHours;
-        LocalDateTime threshold = LocalDateTime.now().minusHours(hours);
-        return snapshotRepo.deleteByGeneratedAtBefore(threshold);
+        String scopePrefix = "snapshots[hours=" + hours + ",";
+        LocalDateTime threshold = purger.cutoff(runId, AdminJobs.PURGE_TREND_48H, scopePrefix, hours);
+        long dropped = partitions.dropExpiredSnapshots(threshold);
+        return dropped + purger.purge(runId, AdminJobs.PURGE_TREND_48H, scopePrefix + "cutoff=" + threshold + "]", List.of(
+                ChunkedPurger.Target.of("category_keyword_trend_snapshot", "category_keyword_trend_snapshot",
+                        "snapshot_id", "t.generated_at < ?", threshold)
+        )).values().stream().mapToLong(Long::longValue).sum();
     }
 
     @SuppressWarnings("unchecked")
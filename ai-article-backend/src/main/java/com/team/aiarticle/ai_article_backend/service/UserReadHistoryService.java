@@ -7,14 +7,15 @@ import com.team.aiarticle.ai_article_backend.entity.UserReadHistory;
 import com.team.aiarticle.ai_article_backend.repository.ArticleV2Repository;
 import com.team.aiarticle.ai_article_backend.repository.UserReadHistoryRepository;
 import com.team.aiarticle.ai_article_backend.repository.UserRepository;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import com.team.aiarticle.ai_article_backend.service.feed.PersonalizedFeedService;
 import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -23,31 +24,101 @@ import java.util.Optional;
 public class UserReadHistoryService {
 
     private static final int MAX_LIMIT = 100;
+    private static final int SUMMARY_LENGTH = 220;
+
+    // 본문(LONGTEXT) 전체 대신 요약에 필요한 앞부분만 DB에서 잘라 온다 (+1자는 말줄임 여부 판단용)
+    private static final String HISTORY_SELECT = """
+        SELECT h.history_id, h.user_id, h.read_at,
+               a.article_id, a.title, a.article_url, a.publisher, a.image_url, a.published_at,
+               LEFT(TRIM(a.content), 221) AS content_head
+        FROM user_read_history h
+        JOIN articlev2 a ON a.article_id = h.article_id
+        WHERE h.user_id = ?
+    """;
 
     private final UserRepository userRepository;
     private final ArticleV2Repository articleRepository;
     private final UserReadHistoryRepository historyRepository;
+    private final ReadHistoryWriteBehind writeBehind;
+    private final JdbcTemplate jdbc;
+    private final PersonalizedFeedService feedService;
 
     public UserReadHistoryService(UserRepository userRepository,
                                   ArticleV2Repository articleRepository,
-                                  UserReadHistoryRepository historyRepository) {
+                                  UserReadHistoryRepository historyRepository,
+                                  ReadHistoryWriteBehind writeBehind,
+                                  JdbcTemplate jdbc,
+                                  PersonalizedFeedService feedService) {
         this.userRepository = userRepository;
         this.articleRepository = articleRepository;
         this.historyRepository = historyRepository;
+        this.writeBehind = writeBehind;
+        this.jdbc = jdbc;
+        this.feedService = feedService;
     }
 
     public List<ReadHistoryResponse> getReadHistory(Integer userId, int limit) {
+        return getReadHistory(userId, limit, null, null);
+    }
+
+    /**
+     * (read_at, history_id) 내림차순 keyset 페이지네이션.
+     * 다음 페이지는 직전 페이지 마지막 항목의 readAt/historyId를 before 커서로 넘긴다.
+     */
+    public List<ReadHistoryResponse> getReadHistory(Integer userId, int limit,
+                                                    LocalDateTime beforeReadAt, Integer beforeHistoryId) {
         if (userId == null) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "userId is required");
         }
-        if (!userRepository.existsById(userId)) {
+        int sanitizedLimit = Math.max(1, Math.min(limit, MAX_LIMIT));
+
+        List<ReadHistoryResponse> page;
+        if (beforeReadAt == null) {
+            page = jdbc.query(HISTORY_SELECT + " ORDER BY h.read_at DESC, h.history_id DESC LIMIT ?",
+                    HISTORY_ROW, userId, sanitizedLimit);
+        } else {
+            Timestamp cursor = Timestamp.valueOf(beforeReadAt);
+            int cursorId = beforeHistoryId != null ? beforeHistoryId : Integer.MAX_VALUE;
+            page = jdbc.query(HISTORY_SELECT + """
+                  AND (h.read_at < ? OR (h.read_at = ? AND h.history_id < ?))
+                ORDER BY h.read_at DESC, h.history_id DESC
+                LIMIT ?
+            """, HISTORY_ROW, userId, cursor, cursor, cursorId, sanitizedLimit);
+        }
+
+        // 빈 결과일 때만 사용자 존재 여부를 확인 (정상 경로는 쿼리 1회)
+        if (page.isEmpty() && !userRepository.existsById(userId)) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "User " + userId + " not found");
         }
-        int sanitizedLimit = Math.max(1, Math.min(limit, MAX_LIMIT));
-        Sort sort = Sort.by(Sort.Order.desc("readAt"), Sort.Order.desc("historyId"));
-        Pageable pageable = PageRequest.of(0, sanitizedLimit, sort);
-        List<UserReadHistory> histories = historyRepository.findByUserUserId(userId, pageable);
-        return histories.stream().map(this::toResponse).toList();
+        return page;
+    }
+
+    private static final RowMapper<ReadHistoryResponse> HISTORY_ROW = (rs, rowNum) -> new ReadHistoryResponse(
+            rs.getInt("history_id"),
+            rs.getInt("user_id"),
+            rs.getInt("article_id"),
+            rs.getString("title"),
+            rs.getString("article_url"),
+            rs.getString("publisher"),
+            rs.getString("image_url"),
+            truncateSummary(rs.getString("content_head")),
+            toLocalDateTime(rs.getTimestamp("published_at")),
+            toLocalDateTime(rs.getTimestamp("read_at"))
+    );
+
+    private static LocalDateTime toLocalDateTime(Timestamp ts) {
+        return ts != null ? ts.toLocalDateTime() : null;
+    }
+
+    /**
+     * 조회 이벤트를 write-behind 버퍼에 넣는다. DB 반영은 ReadHistoryWriteBehind가 묶어서 처리한다.
+     */
+    public void enqueue(Integer userId, Integer articleId, LocalDateTime readAt) {
+        if (userId == null || articleId == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "userId and articleId are required");
+        }
+        writeBehind.enqueue(userId, articleId, readAt);
+        feedService.markRead(userId, articleId);
     }
 
     @Transactional
@@ -60,6 +131,8 @@ public class UserReadHistoryService {
         ArticleV2 article = articleRepository.findById(articleId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Article not found: " + articleId));
 
+        feedService.markRead(userId, articleId);
+
         Optional<UserReadHistory> existingHistory =
                 historyRepository.findByUserUserIdAndArticleArticleId(userId, articleId);
 
@@ -97,13 +170,17 @@ public class UserReadHistoryService {
     }
 
     private String buildSummary(ArticleV2 article) {
-        if (article == null || article.getContent() == null) return null;
-        String content = article.getContent().trim();
+        if (article == null) return null;
+        return truncateSummary(article.getContent());
+    }
+
+    private static String truncateSummary(String text) {
+        if (text == null) return null;
+        String content = text.trim();
         if (content.isEmpty()) return null;
-        int maxLength = 220;
-        if (content.length() <= maxLength) {
+        if (content.length() <= SUMMARY_LENGTH) {
             return content;
         }
-        return content.substring(0, maxLength).trim() + "...";
+        return content.substring(0, SUMMARY_LENGTH).trim() + "...";
     }
 }
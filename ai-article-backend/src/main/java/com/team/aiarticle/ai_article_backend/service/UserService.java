@@ -1,23 +1,35 @@
 package com.team.aiarticle.ai_article_backend.service;
 
+import com.team.aiarticle.ai_article_backend.common.CacheMeters;
 import com.team.aiarticle.ai_article_backend.dto.UserLoginRequestDTO;
 import com.team.aiarticle.ai_article_backend.dto.UserRegisterRequestDTO;
 import com.team.aiarticle.ai_article_backend.entity.User;
-import com.team.aiarticle.ai_article_backend.entity.UserInterest;
 import com.team.aiarticle.ai_article_backend.repository.UserInterestRepository;
 import com.team.aiarticle.ai_article_backend.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 public class UserService {
 
+    private static final int INTEREST_CACHE_MAX = 10_000;
+
     @Autowired
     private UserRepository userRepository;
 
@@ -27,6 +39,21 @@ public class UserService {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // userId → 관심 카테고리 코드 (피드 개인화 등 읽기 경로용, 저장 커밋 후 무효화)
+    private final Map<Integer, List<String>> interestCache = new ConcurrentHashMap<>();
+    private CacheMeters interestCacheMeters;
+
+    @PostConstruct
+    void initMetrics() {
+        interestCacheMeters = new CacheMeters(meterRegistry, "userInterests", interestCache);
+    }
+
     public User registerUser(UserRegisterRequestDTO userRegisterRequestDTO) {
         User user = new User();
         user.setUsername(userRegisterRequestDTO.getUsername());
@@ -69,27 +96,61 @@ public class UserService {
         return userRepository.save(user);
     }
 
-    // 관심 카테고리 조회
+    // 관심 카테고리 조회 (캐시)
     public List<String> getUserInterestCategories(Integer userId) {
-        return userInterestRepository.findCategoryCodesByUserId(userId);
+        List<String> cached = interestCache.get(userId);
+        if (cached != null) {
+            interestCacheMeters.hit();
+            return cached;
+        }
+        interestCacheMeters.miss();
+        List<String> codes = List.copyOf(userInterestRepository.findCategoryCodesByUserId(userId));
+        if (interestCache.size() >= INTEREST_CACHE_MAX) {
+            interestCache.clear();
+        }
+        interestCache.put(userId, codes);
+        return codes;
     }
 
-    // 관심 카테고리 저장 (기존 삭제 후 새로 저장)
+    // 관심 카테고리 저장: 현재 목록과 비교해 빠진 것은 DELETE 한 번, 추가된 것은 batch INSERT 한 번으로 반영
     @Transactional
     public void saveUserInterestCategories(Integer userId, List<String> categoryCodes) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId));
+        if (!userRepository.existsById(userId)) {
+            throw new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId);
+        }
+
+        Set<String> requested = new LinkedHashSet<>(categoryCodes);
+        Set<String> current = new LinkedHashSet<>(userInterestRepository.findCategoryCodesByUserId(userId));
 
-        // 기존 관심사 삭제
-        userInterestRepository.deleteByUserUserId(userId);
+        List<String> toRemove = new ArrayList<>(current);
+        toRemove.removeAll(requested);
+        List<String> toAdd = new ArrayList<>(requested);
+        toAdd.removeAll(current);
+
+        if (!toRemove.isEmpty()) {
+            userInterestRepository.deleteCategoryInterests(userId, toRemove);
+        }
+        if (!toAdd.isEmpty()) {
+            jdbc.batchUpdate(
+                    "INSERT INTO user_interest (user_id, category_code, created_at) VALUES (?, ?, NOW())",
+                    toAdd, toAdd.size(), (ps, code) -> {
+                        ps.setInt(1, userId);
+                        ps.setString(2, code);
+                    });
+        }
+        evictInterestsAfterCommit(userId);
+    }
 
-        // 새 관심사 저장
-        for (String categoryCode : categoryCodes) {
-            UserInterest interest = new UserInterest();
-            interest.setUser(user);
-            interest.setCategoryCode(categoryCode);
-            interest.setCreatedAt(LocalDateTime.now());
-            userInterestRepository.save(interest);
+    private void evictInterestsAfterCommit(Integer userId) {
+        interestCache.remove(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // 커밋 전에 다른 요청이 옛 값을 다시 캐시했을 수 있으므로 커밋 후 한 번 더 비운다
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    interestCache.remove(userId);
+                }
+            });
         }
     }
 }
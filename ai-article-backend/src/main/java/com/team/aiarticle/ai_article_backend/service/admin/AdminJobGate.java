@@ -3,31 +3,109 @@ package com.team.aiarticle.ai_article_backend.service.admin;
 import com.team.aiarticle.ai_article_backend.entity.AdminJobLock;
 import com.team.aiarticle.ai_article_backend.repository.AdminJobLockRepository;
 import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+/**
+ * 작업 일시정지 상태(admin_job_lock.paused)의 단일 창구.
+ * isPaused는 메모리 스냅샷만 보므로 스케줄러 틱마다 DB를 치지 않는다.
+ * 스냅샷은 refreshMs마다 DB에서 다시 읽어 다른 인스턴스의 pause/resume도 그 안에 반영된다.
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class AdminJobGate {
     private final AdminJobLockRepository lockRepository;
+    private final JdbcTemplate jdbc;
+
+    private volatile Set<String> paused;
 
     public boolean isPaused(String jobName) {
-        return lockRepository.findById(jobName).isPresent();
+        Set<String> snapshot = paused;
+        if (snapshot == null) snapshot = refresh();
+        return jobName != null && snapshot.contains(jobName);
+    }
+
+    @Scheduled(fixedDelayString = "${app.jobControl.refreshMs:5000}")
+    public Set<String> refresh() {
+        try {
+            Set<String> loaded = Set.copyOf(jdbc.queryForList(
+                    "SELECT job_name FROM admin_job_lock WHERE paused = 1", String.class));
+            if (paused != null && !loaded.equals(paused)) {
+                log.info("[JobGate] paused jobs changed: {} -> {}", paused, loaded);
+            }
+            paused = loaded;
+            return loaded;
+        } catch (Exception e) {
+            // DB 일시 장애 시 마지막 스냅샷 유지
+            log.warn("[JobGate] refresh failed: {}", e.getMessage());
+            return paused != null ? paused : Set.of();
+        }
     }
 
     public void pause(String jobName) {
         // ★ 변경: (String, LocalDateTime) 생성자 대신 기본 생성자 + setter 사용
-        lockRepository.findById(jobName).orElseGet(() -> {
-            AdminJobLock lock = new AdminJobLock();           // ★
-            lock.setJobName(jobName);                         // ★
-            lock.setLockedAt(LocalDateTime.now());            // ★
-            return lockRepository.save(lock);
+        AdminJobLock lock = lockRepository.findById(jobName).orElseGet(() -> {
+            AdminJobLock created = new AdminJobLock();        // ★
+            created.setJobName(jobName);                      // ★
+            created.setLockedAt(LocalDateTime.now());         // ★
+            return created;
         });
+        lock.setPaused(true);
+        lockRepository.save(lock);
+        apply(jobName, true);
     }
 
+    // 행을 지우지 않는다: 같은 행의 fencing_token이 계속 증가해야 임대 펜싱이 유효하다
     public void resume(String jobName) {
-        if (lockRepository.existsById(jobName)) {
-            lockRepository.deleteById(jobName);
-        }
+        lockRepository.findById(jobName).ifPresent(lock -> {
+            lock.setPaused(false);
+            lockRepository.save(lock);
+        });
+        apply(jobName, false);
+    }
+
+    /** 관리자 화면용 상태: 일시정지 여부 + 현재 임대 보유 노드 + 최근 실행 기록 */
+    public Map<String, Object> status(String jobName) {
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("job", jobName);
+        out.put("paused", isPaused(jobName));
+
+        List<Map<String, Object>> lease = jdbc.queryForList("""
+            SELECT lease_owner, lease_until, fencing_token, (lease_until > NOW(3)) AS leased
+            FROM admin_job_lock WHERE job_name = ?
+        """, jobName);
+        boolean running = !lease.isEmpty() && Boolean.TRUE.equals(toBool(lease.get(0).get("leased")));
+        out.put("running", running);
+        out.put("leaseOwner", running ? lease.get(0).get("lease_owner") : null);
+
+        List<Map<String, Object>> lastRun = jdbc.queryForList("""
+            SELECT run_id, status, started_at, finished_at, progress_done, note
+            FROM admin_job_run WHERE job_name = ?
+            ORDER BY run_id DESC LIMIT 1
+        """, jobName);
+        out.put("lastRun", lastRun.isEmpty() ? null : lastRun.get(0));
+        return out;
+    }
+
+    private synchronized void apply(String jobName, boolean pause) {
+        Set<String> next = new HashSet<>(paused != null ? paused : Set.of());
+        if (pause) next.add(jobName); else next.remove(jobName);
+        paused = Set.copyOf(next);
+    }
+
+    private static Boolean toBool(Object v) {
+        if (v == null) return false;
+        if (v instanceof Boolean b) return b;
+        if (v instanceof Number n) return n.intValue() != 0;
+        return Boolean.parseBoolean(v.toString());
     }
 }
@@ -1,14 +1,26 @@
 package com.team.aiarticle.ai_article_backend.service.admin;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class AdminRunLogger {
     private final JdbcTemplate jdbc;
+    private final JobLeaseService leases;
+
+    // 임대 없이 돈 실행이 이 시간 동안 진행 기록이 없으면 죽은 것으로 본다
+    @Value("${app.jobs.staleRunSeconds:900}")
+    private long staleRunSeconds;
 
     public long start(String jobName, @Nullable String paramsJson) {
         jdbc.update("INSERT INTO admin_job_run(job_name, params_json) VALUES (?,?)", jobName, paramsJson);
@@ -27,4 +39,44 @@ public class AdminRunLogger {
             note, runId
         );
     }
+
+    // 장기 작업 진행 상황: 처리 건수와 재개 지점(checkpoint)
+    public void progress(long runId, long done, @Nullable String checkpoint) {
+        if (runId > 0) jdbc.update(
+            "UPDATE admin_job_run SET progress_done=?, checkpoint=?, updated_at=NOW() WHERE run_id=?",
+            done, checkpoint, runId
+        );
+    }
+
+    /**
+     * 같은 작업의 직전 실행이 성공하지 못하고 checkpoint를 남겼다면 그 값을 돌려준다. 형식과 범위 확인은 호출 측 몫.
+     * - FAILED 행은 바로 이어받는다. checkpoint 없이 끝난 실패(임대 획득 실패, 첫 청크 전 오류)는 건너뛴다
+     * - RUNNING 행은 죽은 실행(JVM 종료/OOM/강제 재배포로 finish를 못 남김)일 때만 이어받는다:
+     *   지금 이 작업의 임대를 쥐고 있거나(임대가 배타적이므로 다른 실행은 살아 있을 수 없다),
+     *   마지막 진행 기록이 staleRunSeconds보다 오래된 경우. 이어받은 행은 FAILED로 정리한다
+     */
+    public Optional<String> resumableCheckpoint(String jobName, long currentRunId) {
+        List<Map<String, Object>> rows = jdbc.queryForList("""
+            SELECT run_id, status, checkpoint
+            FROM admin_job_run
+            WHERE job_name = ? AND run_id < ?
+              AND (status = 'SUCCESS' OR checkpoint IS NOT NULL)
+              AND (status <> 'RUNNING' OR ? OR COALESCE(updated_at, started_at) < NOW() - INTERVAL ? SECOND)
+            ORDER BY run_id DESC
+            LIMIT 1
+        """, jobName, currentRunId, leases.isHeld(jobName), Math.max(60, staleRunSeconds));
+        if (rows.isEmpty()) return Optional.empty();
+        Map<String, Object> row = rows.get(0);
+        String status = String.valueOf(row.get("status"));
+        if ("SUCCESS".equals(status)) return Optional.empty();
+        if ("RUNNING".equals(status)) {
+            long abandoned = ((Number) row.get("run_id")).longValue();
+            jdbc.update("""
+                UPDATE admin_job_run SET finished_at = NOW(), status = 'FAILED', note = ?
+                WHERE run_id = ? AND status = 'RUNNING'
+            """, "abandoned; resumed by run " + currentRunId, abandoned);
+            log.warn("[RunLog] {} run {} was left RUNNING - resuming from {}", jobName, abandoned, row.get("checkpoint"));
+        }
+        return Optional.ofNullable((String) row.get("checkpoint"));
+    }
 }
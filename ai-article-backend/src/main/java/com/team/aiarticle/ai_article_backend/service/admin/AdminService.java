@@ -1,15 +1,20 @@
 package com.team.aiarticle.ai_article_backend.service.admin;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team.aiarticle.ai_article_backend.config.AsyncConfig;
+import com.team.aiarticle.ai_article_backend.scheduler.AdminJobs;
 import com.team.aiarticle.ai_article_backend.service.pipeline.V2PipelineService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 @Slf4j
@@ -20,8 +25,18 @@ public class AdminService {
     private final JdbcTemplate jdbc;
     private final ObjectMapper om;
     private final V2PipelineService pipeline; // ✅ 주입
+    private final ChunkedPurger purger;
+    private final PartitionMaintenanceService partitions;
+    private final AdminRunLogger runLogger;
+    private final JobLeaseService leases;
+    private final AdminJobGate gate;
+    private final JobProgressRegistry progress;
 
-    /* ================= 유틸: 로그/락 ================= */
+    @Value("${app.admin.rerun.chunkSize:50}")
+    private int rerunChunkSize;
+
+    /* ================= 유틸: 로그 ================= */
+    // 작업 단위 배타 실행은 JobLeaseService(admin_job_lock 임대) 사용
 
     @Transactional
     public long startRun(String jobName, Map<String, Object> params) {
@@ -38,25 +53,11 @@ public class AdminService {
                 success ? "SUCCESS" : "FAILED", note, runId);
     }
 
-    @Transactional
-    public boolean tryLock(String jobName) {
-        try {
-            jdbc.update("INSERT INTO admin_job_lock(job_name) VALUES (?)", jobName);
-            return true;
-        } catch (Exception e) {
-            return false;
-        }
-    }
-
-    @Transactional
-    public void releaseLock(String jobName) {
-        jdbc.update("DELETE FROM admin_job_lock WHERE job_name=?", jobName);
-    }
-
     /* =============== 1) 카테고리 코드 백필 =============== */
-    @Async
+    @Async(AsyncConfig.ADMIN_DB_EXECUTOR)
     public void backfillCategoryCodeV2(long runId) {
         final String JOB = "backfillCategoryCodeV2";
+        JobProgressRegistry.Tracker tracker = progress.start(JOB, runId, -1);
         try {
             int updated = jdbc.update("""
                 UPDATE articlev2 v
@@ -65,44 +66,80 @@ public class AdminService {
                 WHERE (v.category_code IS NULL OR v.category_code = '')
                   AND a.category_code IS NOT NULL
             """);
+            tracker.advance(updated, 0);
+            tracker.finish(true);
             finishRun(runId, true, "updated=" + updated);
         } catch (Exception e) {
             log.error("{} failed", JOB, e);
+            tracker.finish(false);
             finishRun(runId, false, e.getMessage());
         }
     }
 
     /* =============== 2) 전처리/TF-IDF 재실행(범위) =============== */
-    @Async
+    // article_id 순 청크로 처리하고 청크마다 checkpoint를 남긴다.
+    // 같은 범위/옵션의 직전 실행이 실패·중단됐다면 그 checkpoint 다음 기사부터 이어서 처리한다.
+    @Async(AsyncConfig.AI_EXECUTOR)
     public void rerunPreprocessAndAnalyzeKeywords(long runId, LocalDateTime from, LocalDateTime to, boolean force) {
-        final String JOB = "keywordsRerunV2";
+        final String JOB = AdminJobs.KEYWORDS_RERUN;
+        final String scope = "articles[" + from + "~" + to + (force ? ",force" : "") + "]";
+        // 같은 작업이 동시에 두 번 돌며 같은 checkpoint를 이어받지 않도록 임대 아래에서 실행 (ensureHeld 펜싱도 이때만 동작)
+        boolean ran = leases.runExclusive(JOB, () -> {
+            rerunChunks(runId, scope, from, to, force);
+            return Boolean.TRUE;
+        }).isPresent();
+        if (!ran) finishRun(runId, false, "another " + JOB + " run is in progress or paused");
+    }
+
+    private void rerunChunks(long runId, String scope, LocalDateTime from, LocalDateTime to, boolean force) {
+        final String JOB = AdminJobs.KEYWORDS_RERUN;
+        JobProgressRegistry.Tracker tracker = null;
         try {
-            if (force) {
-                int delEk = jdbc.update("""
-                    DELETE ek FROM extracted_keyword_v2 ek
-                    JOIN article_processed_content_v2 apc
-                      ON apc.processed_content_id = ek.processed_content_id
-                    WHERE apc.processed_at >= ? AND apc.processed_at < ?
-                """, from, to);
-                int delApc = jdbc.update("""
-                    DELETE FROM article_processed_content_v2
-                    WHERE processed_at >= ? AND processed_at < ?
-                """, from, to);
-                log.info("[{}] force cleanup: ek={}, apc={}", JOB, delEk, delApc);
-            }
+            int cursor = runLogger.resumableCheckpoint(JOB, runId)
+                    .filter(cp -> cp.startsWith(scope + "@"))
+                    .map(cp -> Integer.parseInt(cp.substring(scope.length() + 1)))
+                    .orElse(0);
+            if (cursor > 0) log.info("[{}] resume after article_id={}", JOB, cursor);
+            tracker = progress.start(JOB, runId, pipeline.countRerunCandidates(from, to, cursor, force));
 
-            int saved = pipeline.computeAndStoreTfidf(from, to); // ✅ 실제 호출
-            finishRun(runId, true, "savedKeywords=" + saved);
+            long articles = 0;
+            long saved = 0;
+            while (true) {
+                if (Thread.currentThread().isInterrupted()) {
+                    throw new IllegalStateException("interrupted after article_id=" + cursor);
+                }
+                leases.ensureHeld();
+                // 일시정지되면 여기서 멈추고 checkpoint를 남긴다 → 재개 후 다시 실행하면 이어서 처리
+                if (gate.isPaused(JOB)) {
+                    throw new IllegalStateException("paused after article_id=" + cursor);
+                }
+                V2PipelineService.RerunChunk chunk = pipeline.rerunKeywordsChunk(from, to, cursor, rerunChunkSize, force);
+                if (chunk.articles() == 0) break;
+                int failed = chunk.skipped() + chunk.failedIds().size();
+                tracker.advance(chunk.articles() - failed, failed);
+                // 예외가 난 기사가 있으면 checkpoint를 넘기지 않고 실패로 끝낸다 → 다시 실행하면 이 청크부터 재시도
+                if (!chunk.failedIds().isEmpty()) {
+                    throw new IllegalStateException("failed article_ids=" + chunk.failedIds() + " after article_id=" + cursor);
+                }
+                cursor = chunk.lastArticleId();
+                articles += chunk.articles();
+                saved += chunk.savedKeywords();
+                runLogger.progress(runId, articles, scope + "@" + cursor);
+            }
+            tracker.finish(true);
+            finishRun(runId, true, "articles=" + articles + ", savedKeywords=" + saved);
         } catch (Exception e) {
             log.error("{} failed", JOB, e);
+            if (tracker != null) tracker.finish(false);
             finishRun(runId, false, e.getMessage());
         }
     }
 
     /* =============== 3) 트렌드 스냅샷 생성(일 단위) =============== */
-    @Async
+    @Async(AsyncConfig.ADMIN_DB_EXECUTOR)
     public void buildTrendSnapshotDaily(long runId, LocalDateTime from, LocalDateTime to, boolean wipeExisting) {
         final String JOB = "buildTrendSnapshotDaily";
+        JobProgressRegistry.Tracker tracker = progress.start(JOB, runId, -1);
         try {
             if (wipeExisting) {
                 jdbc.update("""
@@ -132,33 +169,51 @@ public class AdminService {
                 AND v.category_code IS NOT NULL
               GROUP BY v.category_code, k.keyword_id, DATE(apc.processed_at)
             """, from, to);
+            tracker.advance(ins, 0);
+            tracker.finish(true);
             finishRun(runId, true, "insertedSnapshots=" + ins);
         } catch (Exception e) {
             log.error("{} failed", JOB, e);
+            tracker.finish(false);
             finishRun(runId, false, e.getMessage());
         }
     }
 
     /* =============== 4) 48시간 이전 정리 =============== */
-    @Async
+    @Async(AsyncConfig.ADMIN_DB_EXECUTOR)
     public void cleanupOlderThanHours(long runId, int hours, boolean snapshotsOnly) {
-        final String JOB = "cleanupOlderThanHours";
-        try {
-            int sDel = jdbc.update("""
-               DELETE FROM category_keyword_trend_snapshot
-               WHERE generated_at < (NOW() - INTERVAL ? HOUR)
-            """, hours);
+        final String JOB = AdminJobs.CLEANUP_OLDER_THAN;
+        // 임대 아래에서 실행해야 죽은 직전 실행(RUNNING으로 남은 행)의 기준 시각/커서를 바로 이어받는다
+        boolean ran = leases.runExclusive(JOB, () -> {
+            cleanup(runId, hours, snapshotsOnly);
+            return Boolean.TRUE;
+        }).isPresent();
+        if (!ran) finishRun(runId, false, "another " + JOB + " run is in progress or paused");
+    }
 
-            int ekDel = 0;
+    private void cleanup(long runId, int hours, boolean snapshotsOnly) {
+        final String JOB = AdminJobs.CLEANUP_OLDER_THAN;
+        try {
+            // 기준 시각은 시작 시 한 번만 정해 구간마다 같은 조건으로 지운다(직전 실패 실행을 잇는 경우 그 기준 시각)
+            String scopePrefix = "cleanup[hours=" + hours + (snapshotsOnly ? ",snapshotsOnly" : "") + ",";
+            LocalDateTime cutoff = purger.cutoff(runId, JOB, scopePrefix, hours);
+            String scope = scopePrefix + "cutoff=" + cutoff + "]";
+            // 통째로 지나간 파티션은 DROP PARTITION으로 먼저 버리고, 남은 경계 구간만 청크 삭제
+            long dropped = partitions.dropExpiredSnapshots(cutoff);
+            if (!snapshotsOnly) dropped += partitions.dropExpiredKeywords(cutoff);
+            List<ChunkedPurger.Target> targets = new ArrayList<>();
+            targets.add(ChunkedPurger.Target.of("category_keyword_trend_snapshot",
+                    "category_keyword_trend_snapshot", "snapshot_id", "t.generated_at < ?", cutoff));
             if (!snapshotsOnly) {
-                ekDel = jdbc.update("""
-                  DELETE ek FROM extracted_keyword_v2 ek
-                  JOIN article_processed_content_v2 apc
-                    ON apc.processed_content_id = ek.processed_content_id
-                  WHERE apc.processed_at < (NOW() - INTERVAL ? HOUR)
-                """, hours);
+                targets.add(ChunkedPurger.Target.joined("extracted_keyword_v2",
+                        "extracted_keyword_v2", "extracted_keyword_id",
+                        "JOIN article_processed_content_v2 apc ON apc.processed_content_id = t.processed_content_id",
+                        "apc.processed_at < ?", cutoff));
             }
-            finishRun(runId, true, "snapshotDel=" + sDel + ", ekDel=" + ekDel);
+            Map<String, Long> deleted = purger.purge(runId, JOB, scope, targets);
+            long sDel = deleted.getOrDefault("category_keyword_trend_snapshot", 0L);
+            long ekDel = deleted.getOrDefault("extracted_keyword_v2", 0L);
+            finishRun(runId, true, "partitionRowsDropped=" + dropped + ", snapshotDel=" + sDel + ", ekDel=" + ekDel);
         } catch (Exception e) {
             log.error("{} failed", JOB, e);
             finishRun(runId, false, e.getMessage());
@@ -0,0 +1,160 @@
+package com.team.aiarticle.ai_article_backend.service.admin;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 대량 삭제를 PK 구간 단위로 잘라 실행하는 정리 엔진.
+ * - 구간마다 따로 커밋(트랜잭션 밖에서 호출) → 행 잠금과 undo 로그가 구간 크기로 제한된다
+ * - 구간 사이에 pauseMs만큼 쉬어 수집(ingest) 쓰기와의 경합을 줄인다
+ * - 진행 상황(삭제 건수, 커서)을 admin_job_run에 "scope/대상@pk" 형식으로 남기고,
+ *   같은 scope(기준 시각/옵션)의 직전 실행이 실패했거나 죽었다면(RUNNING으로 남은 행, AdminRunLogger.resumableCheckpoint)
+ *   다음 실행이 그 기준 시각과 커서부터 이어서 지운다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChunkedPurger {
+
+    /**
+     * 삭제 대상. 대상 테이블 별칭은 항상 t 이고, join/where 에서 t 로 참조한다.
+     * 예) table=extracted_keyword_v2, join="JOIN article_processed_content_v2 apc ON ...", where="apc.processed_at < ?"
+     */
+    public record Target(String name, String table, String pk, String join, String where, List<Object> params) {
+        public static Target of(String name, String table, String pk, String where, Object... params) {
+            return new Target(name, table, pk, "", where, List.of(params));
+        }
+
+        public static Target joined(String name, String table, String pk, String join, String where, Object... params) {
+            return new Target(name, table, pk, join, where, List.of(params));
+        }
+    }
+
+    private final JdbcTemplate jdbc;
+    private final AdminRunLogger runLogger;
+    private final JobLeaseService leases;
+    private final AdminJobGate gate;
+    private final JobProgressRegistry progress;
+
+    @Value("${app.purge.chunkSize:5000}")
+    private int chunkSize;
+
+    @Value("${app.purge.pauseMs:200}")
+    private long pauseMs;
+
+    /**
+     * 기준 시각 결정. 같은 작업·같은 scopePrefix의 직전 실행이 실패했거나 죽었다면 그 실행의 기준 시각을 그대로 써서
+     * 이어 지우고(커서 아래 구간은 그 기준으로 이미 확인됨), 아니면 지금으로부터 hours 전을 쓴다.
+     * scope는 scopePrefix + "cutoff=" + 기준시각 + "]" 형식이 된다.
+     */
+    public LocalDateTime cutoff(long runId, String jobName, String scopePrefix, long hours) {
+        String head = scopePrefix + "cutoff=";
+        Optional<String> checkpoint = runId > 0 && jobName != null
+                ? runLogger.resumableCheckpoint(jobName, runId)
+                : Optional.empty();
+        return checkpoint
+                .filter(cp -> cp.startsWith(head) && cp.indexOf(']', head.length()) > 0)
+                .map(cp -> LocalDateTime.parse(cp.substring(head.length(), cp.indexOf(']', head.length()))))
+                .orElseGet(() -> LocalDateTime.now().minusHours(hours));
+    }
+
+    /**
+     * targets를 순서대로 정리한다. runId/jobName이 주어지면 진행 상황을 기록하고,
+     * 같은 scope(대상 조건을 결정하는 기준 시각/옵션)로 남은 직전 실패/중단 실행을 이어간다.
+     * 죽은 실행을 바로 이어받으려면 runExclusive(jobName) 안에서 호출한다(밖에서는 staleRunSeconds 이후에만).
+     * @return 대상 이름별 삭제 건수(순서 유지)
+     */
+    public Map<String, Long> purge(long runId, String jobName, String scope, List<Target> targets) {
+        int startIdx = 0;
+        Long resumeFrom = null;
+        Optional<String> checkpoint = runId > 0 && jobName != null
+                ? runLogger.resumableCheckpoint(jobName, runId).filter(cp -> cp.startsWith(scope + "/"))
+                : Optional.empty();
+        if (checkpoint.isPresent()) {
+            String[] parts = checkpoint.get().substring(scope.length() + 1).split("@", 2);
+            for (int i = 0; i < targets.size() && parts.length == 2; i++) {
+                if (targets.get(i).name().equals(parts[0])) {
+                    startIdx = i;
+                    resumeFrom = Long.parseLong(parts[1]);
+                    log.info("[Purge] {} resumes from {}", jobName, checkpoint.get());
+                    break;
+                }
+            }
+        }
+
+        // 삭제 대상 건수는 미리 세지 않는다(전체 스캔 비용) → ETA 없이 처리량만 보인다
+        JobProgressRegistry.Tracker tracker = progress.start(jobName != null ? jobName : "purge", runId, -1);
+        Map<String, Long> deleted = new LinkedHashMap<>();
+        long total = 0;
+        try {
+            for (int i = 0; i < targets.size(); i++) {
+                Target t = targets.get(i);
+                long n = i < startIdx ? 0 : purgeTarget(runId, jobName, scope, t, i == startIdx ? resumeFrom : null, total, tracker);
+                deleted.put(t.name(), n);
+                total += n;
+            }
+        } catch (RuntimeException e) {
+            tracker.finish(false);
+            throw e;
+        }
+        tracker.finish(true);
+        return deleted;
+    }
+
+    private long purgeTarget(long runId, String jobName, String scope, Target t, Long resumeFrom, long doneBefore,
+                             JobProgressRegistry.Tracker tracker) {
+        Long maxPk = jdbc.queryForObject("SELECT MAX(" + t.pk() + ") FROM " + t.table(), Long.class);
+        if (maxPk == null) return 0;
+
+        String deleteSql = "DELETE t FROM " + t.table() + " t " + t.join()
+                + " WHERE t." + t.pk() + " >= ? AND t." + t.pk() + " < ? AND (" + t.where() + ")";
+        String nextSql = "SELECT MIN(" + t.pk() + ") FROM " + t.table() + " WHERE " + t.pk() + " >= ?";
+        long step = Math.max(1, chunkSize);
+
+        long deleted = 0;
+        Long lo = jdbc.queryForObject(nextSql, Long.class, resumeFrom == null ? Long.MIN_VALUE : resumeFrom);
+        // 시작 시점의 MAX(pk)까지만 본다: 정리 중 새로 들어온 행은 대상이 아니다
+        while (lo != null && lo <= maxPk) {
+            if (Thread.currentThread().isInterrupted()) {
+                throw new IllegalStateException("purge interrupted at " + t.name() + "@" + lo);
+            }
+            leases.ensureHeld();
+            if (jobName != null && gate.isPaused(jobName)) {
+                throw new IllegalStateException("purge paused at " + t.name() + "@" + lo);
+            }
+            long hi = lo + step;
+            List<Object> args = new ArrayList<>(t.params().size() + 2);
+            args.add(lo);
+            args.add(hi);
+            args.addAll(t.params());
+            int n = jdbc.update(deleteSql, args.toArray());
+            deleted += n;
+            tracker.advance(n, 0);
+            runLogger.progress(runId, doneBefore + deleted, scope + "/" + t.name() + "@" + hi);
+            if (n > 0) pause();
+            // PK 공백 구간은 건너뛴다
+            lo = jdbc.queryForObject(nextSql, Long.class, hi);
+        }
+        log.info("[Purge] {} deleted={}", t.name(), deleted);
+        return deleted;
+    }
+
+    private void pause() {
+        if (pauseMs <= 0) return;
+        try {
+            Thread.sleep(pauseMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
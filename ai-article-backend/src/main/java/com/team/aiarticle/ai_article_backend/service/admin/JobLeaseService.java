@@ -0,0 +1,187 @@
+package com.team.aiarticle.ai_article_backend.service.admin;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * admin_job_lock 기반 작업 임대(lease). 여러 백엔드 인스턴스 중 한 곳에서만 같은 작업을 실행하게 한다.
+ * - 획득: 임대가 비었거나 만료된 경우에만 lease_owner를 내 노드로 바꾸고 fencing_token을 1 올린다
+ * - 하트비트: 실행 중에는 ttl/3 간격으로 lease_until을 연장한다. 연장에 실패하면(다른 노드가 가져감) 작업 스레드를 interrupt 한다
+ * - 펜싱: 청크 단위 작업은 ensureHeld()로 내 토큰이 아직 최신인지 확인하고, 아니면 더 쓰지 않고 멈춘다
+ * paused=1인 작업은 임대를 주지 않는다(AdminJobGate가 같은 행의 paused 컬럼을 관리).
+ */
+@Slf4j
+@Service
+public class JobLeaseService {
+
+    /** 획득한 임대. token은 획득할 때마다 증가하는 펜싱 토큰 */
+    public record Lease(String jobName, String owner, long token) {}
+
+    private static final ThreadLocal<Lease> CURRENT = new ThreadLocal<>();
+
+    private final JdbcTemplate jdbc;
+    private final MeterRegistry meterRegistry;
+    private final String nodeId;
+    private final long ttlMs;
+    private final ScheduledExecutorService heartbeats;
+
+    public JobLeaseService(
+            JdbcTemplate jdbc,
+            MeterRegistry meterRegistry,
+            @Value("${app.node.id:}") String nodeId,
+            @Value("${app.lease.ttlSeconds:60}") long ttlSeconds
+    ) {
+        this.jdbc = jdbc;
+        this.meterRegistry = meterRegistry;
+        this.nodeId = nodeId == null || nodeId.isBlank()
+                ? ManagementFactory.getRuntimeMXBean().getName() + "-" + UUID.randomUUID().toString().substring(0, 8)
+                : nodeId;
+        this.ttlMs = Math.max(5, ttlSeconds) * 1000L;
+        // 스케줄러 스레드가 긴 작업으로 묶여 있어도 하트비트가 밀리지 않도록 별도 스레드 사용
+        this.heartbeats = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "job-lease-heartbeat");
+            t.setDaemon(true);
+            return t;
+        });
+        log.info("[Lease] node id = {}", this.nodeId);
+    }
+
+    public String nodeId() {
+        return nodeId;
+    }
+
+    public Optional<Lease> tryAcquire(String jobName) {
+        jdbc.update("INSERT IGNORE INTO admin_job_lock(job_name, locked_at, paused) VALUES (?, NOW(), 0)", jobName);
+        int updated = jdbc.update("""
+            UPDATE admin_job_lock
+            SET lease_owner = ?, lease_until = NOW(3) + INTERVAL ? MICROSECOND,
+                fencing_token = fencing_token + 1, locked_at = NOW()
+            WHERE job_name = ? AND paused = 0
+              AND (lease_owner IS NULL OR lease_until < NOW(3))
+        """, nodeId, ttlMs * 1000, jobName);
+        if (updated == 0) return Optional.empty();
+
+        List<Long> token = jdbc.queryForList(
+                "SELECT fencing_token FROM admin_job_lock WHERE job_name = ? AND lease_owner = ?",
+                Long.class, jobName, nodeId);
+        return token.isEmpty() ? Optional.empty() : Optional.of(new Lease(jobName, nodeId, token.get(0)));
+    }
+
+    /** @return false면 임대를 잃었다(만료 후 다른 노드가 획득) */
+    public boolean heartbeat(Lease lease) {
+        return jdbc.update("""
+            UPDATE admin_job_lock SET lease_until = NOW(3) + INTERVAL ? MICROSECOND
+            WHERE job_name = ? AND lease_owner = ? AND fencing_token = ?
+        """, ttlMs * 1000, lease.jobName(), lease.owner(), lease.token()) == 1;
+    }
+
+    public void release(Lease lease) {
+        jdbc.update("""
+            UPDATE admin_job_lock SET lease_owner = NULL, lease_until = NULL
+            WHERE job_name = ? AND lease_owner = ? AND fencing_token = ?
+        """, lease.jobName(), lease.owner(), lease.token());
+    }
+
+    /**
+     * 임대를 얻은 경우에만 task를 실행한다. 실행 중에는 하트비트를 보내고, 끝나면 반납한다.
+     * 실행 시간은 job.run{job, outcome=success|failed|skipped} 타이머로 남는다.
+     * @return 임대를 얻지 못했으면 empty
+     */
+    public <T> Optional<T> runExclusive(String jobName, Supplier<T> task) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Optional<Lease> acquired = tryAcquire(jobName);
+        if (acquired.isEmpty()) {
+            log.debug("[Lease] '{}' is held by another node or paused - skip", jobName);
+            sample.stop(runTimer(jobName, "skipped"));
+            return Optional.empty();
+        }
+        Lease lease = acquired.get();
+        Thread worker = Thread.currentThread();
+        long period = Math.max(1000, ttlMs / 3);
+        // 작업이 끝난 뒤 이미 돌고 있던 하트비트가 반납된 임대를 "잃었다"고 보고 interrupt 하지 않도록,
+        // 하트비트 본문과 종료 표시(done)를 같은 락으로 묶는다
+        Object beatLock = new Object();
+        AtomicBoolean done = new AtomicBoolean();
+        ScheduledFuture<?> beat = heartbeats.scheduleAtFixedRate(() -> {
+            synchronized (beatLock) {
+                if (done.get()) return;
+                try {
+                    if (!heartbeat(lease)) {
+                        log.warn("[Lease] '{}' lost (token={}) - interrupting worker", jobName, lease.token());
+                        worker.interrupt();
+                        throw new IllegalStateException("lease lost");
+                    }
+                } catch (IllegalStateException e) {
+                    throw e;
+                } catch (Exception e) {
+                    log.warn("[Lease] heartbeat for '{}' failed: {}", jobName, e.getMessage());
+                }
+            }
+        }, period, period, TimeUnit.MILLISECONDS);
+
+        Lease previous = CURRENT.get();
+        CURRENT.set(lease);
+        String outcome = "failed";
+        try {
+            Optional<T> result = Optional.ofNullable(task.get());
+            outcome = "success";
+            return result;
+        } finally {
+            sample.stop(runTimer(jobName, outcome));
+            // 진행 중인 하트비트가 끝나길 기다린 뒤 종료 표시 → 이후 하트비트는 아무 것도 하지 않는다
+            synchronized (beatLock) {
+                done.set(true);
+            }
+            beat.cancel(false);
+            if (previous == null) CURRENT.remove(); else CURRENT.set(previous);
+            release(lease);
+            Thread.interrupted(); // 하트비트가 건 interrupt가 스케줄러 스레드에 남지 않도록 정리
+        }
+    }
+
+    private Timer runTimer(String jobName, String outcome) {
+        return Timer.builder("job.run").tag("job", jobName).tag("outcome", outcome).register(meterRegistry);
+    }
+
+    /** 현재 스레드가 jobName의 임대 아래(runExclusive 안)에서 실행 중인지 */
+    public boolean isHeld(String jobName) {
+        Lease lease = CURRENT.get();
+        return lease != null && lease.jobName().equals(jobName);
+    }
+
+    /**
+     * 현재 스레드가 임대 아래에서 실행 중이면, 펜싱 토큰이 아직 최신인지 확인한다.
+     * 임대 없이 실행되는 경로(관리자 수동 호출 등)에서는 아무 것도 하지 않는다.
+     */
+    public void ensureHeld() {
+        Lease lease = CURRENT.get();
+        if (lease == null) return;
+        List<Long> token = jdbc.queryForList(
+                "SELECT fencing_token FROM admin_job_lock WHERE job_name = ? AND lease_owner = ?",
+                Long.class, lease.jobName(), lease.owner());
+        if (token.isEmpty() || token.get(0) != lease.token()) {
+            throw new IllegalStateException("lease for '" + lease.jobName() + "' is no longer held (token=" + lease.token() + ")");
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        heartbeats.shutdownNow();
+    }
+}
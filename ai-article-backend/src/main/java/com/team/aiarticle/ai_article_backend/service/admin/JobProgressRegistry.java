@@ -0,0 +1,189 @@
+package com.team.aiarticle.ai_article_backend.service.admin;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 장기 작업 실시간 진행 상황(인메모리, 노드 단위).
+ * 파이프라인/트렌드/관리자 작업이 Tracker로 처리 건수와 오류 건수를 올리면
+ * 처리율(전체 평균 + 최근 EWMA), 오류율, ETA를 계산해 REST 스냅샷과 SSE로 내보낸다.
+ * DB(admin_job_run.progress_done/checkpoint)는 재개용이고, 이쪽은 튜닝용 관측값이다.
+ * 처리 건수는 job.items{job, result=ok|failed} 카운터로도 내보내 Prometheus에서 처리율/오류율을 본다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JobProgressRegistry {
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, Tracker> trackers = new ConcurrentHashMap<>();
+    private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+
+    // 끝난 작업을 화면에 남겨두는 시간
+    @Value("${app.progress.retentionMinutes:30}")
+    private long retentionMinutes;
+
+    @Value("${app.progress.sseTimeoutMinutes:30}")
+    private long sseTimeoutMinutes;
+
+    /** 작업 하나의 진행 상황. total을 모르면 -1 (ETA 없음) */
+    public static final class Tracker {
+        private static final double ALPHA = 0.3;
+
+        private final String job;
+        private final long runId;
+        private final long startedAtMs = System.currentTimeMillis();
+        private final AtomicLong processed = new AtomicLong();
+        private final AtomicLong errors = new AtomicLong();
+        private final Counter okItems;
+        private final Counter failedItems;
+        private volatile long total;
+        private volatile String state = "RUNNING";
+        private volatile long finishedAtMs;
+
+        // 최근 처리율/오류율: 1초 이상 간격의 샘플로 EWMA
+        private long sampleAtMs = startedAtMs;
+        private long sampleProcessed;
+        private long sampleErrors;
+        private double recentRate;
+        private double recentErrorRate;
+
+        private Tracker(String job, long runId, long total, Counter okItems, Counter failedItems) {
+            this.job = job;
+            this.runId = runId;
+            this.total = total;
+            this.okItems = okItems;
+            this.failedItems = failedItems;
+        }
+
+        public void total(long total) {
+            this.total = total;
+        }
+
+        /** ok건 성공, failed건 실패 처리. 처리 건수에는 둘 다 포함된다 */
+        public void advance(long ok, long failed) {
+            processed.addAndGet(ok + failed);
+            if (ok > 0) okItems.increment(ok);
+            if (failed > 0) {
+                errors.addAndGet(failed);
+                failedItems.increment(failed);
+            }
+            sample(System.currentTimeMillis());
+        }
+
+        public void finish(boolean success) {
+            sample(System.currentTimeMillis());
+            finishedAtMs = System.currentTimeMillis();
+            state = success ? "SUCCESS" : "FAILED";
+        }
+
+        private synchronized void sample(long now) {
+            long dt = now - sampleAtMs;
+            if (dt < 1000) return;
+            long p = processed.get();
+            long e = errors.get();
+            long dp = p - sampleProcessed;
+            double rate = dp * 1000.0 / dt;
+            double errRate = dp > 0 ? (double) (e - sampleErrors) / dp : recentErrorRate;
+            recentRate = sampleProcessed == 0 && recentRate == 0 ? rate : ALPHA * rate + (1 - ALPHA) * recentRate;
+            recentErrorRate = ALPHA * errRate + (1 - ALPHA) * recentErrorRate;
+            sampleAtMs = now;
+            sampleProcessed = p;
+            sampleErrors = e;
+        }
+
+        synchronized Map<String, Object> snapshot() {
+            long end = finishedAtMs > 0 ? finishedAtMs : System.currentTimeMillis();
+            double elapsedSec = Math.max(0.001, (end - startedAtMs) / 1000.0);
+            long p = processed.get();
+            long t = total;
+            double avgRate = p / elapsedSec;
+            double rateForEta = recentRate > 0 ? recentRate : avgRate;
+
+            Map<String, Object> out = new LinkedHashMap<>();
+            out.put("job", job);
+            out.put("runId", runId);
+            out.put("state", state);
+            out.put("processed", p);
+            out.put("errors", errors.get());
+            out.put("total", t >= 0 ? t : null);
+            out.put("elapsedSec", Math.round(elapsedSec));
+            out.put("avgPerSec", round2(avgRate));
+            out.put("recentPerSec", round2(recentRate));
+            out.put("errorRate", round2(p > 0 ? recentErrorRate : 0));
+            out.put("etaSec", "RUNNING".equals(state) && t >= 0 && rateForEta > 0
+                    ? Math.round(Math.max(0, t - p) / rateForEta) : null);
+            out.put("startedAt", startedAtMs);
+            out.put("finishedAt", finishedAtMs > 0 ? finishedAtMs : null);
+            return out;
+        }
+
+        private static double round2(double v) {
+            return Math.round(v * 100.0) / 100.0;
+        }
+    }
+
+    /** 같은 작업 이름의 이전 Tracker는 새 실행으로 교체된다 */
+    public Tracker start(String job, long runId, long total) {
+        Tracker t = new Tracker(job, runId, total, itemCounter(job, "ok"), itemCounter(job, "failed"));
+        trackers.put(job, t);
+        return t;
+    }
+
+    private Counter itemCounter(String job, String result) {
+        return Counter.builder("job.items").tag("job", job).tag("result", result).register(meterRegistry);
+    }
+
+    public List<Map<String, Object>> snapshot() {
+        long cutoff = System.currentTimeMillis() - retentionMinutes * 60_000L;
+        trackers.values().removeIf(t -> t.finishedAtMs > 0 && t.finishedAtMs < cutoff);
+        List<Map<String, Object>> out = new ArrayList<>();
+        for (Tracker t : trackers.values()) out.add(t.snapshot());
+        out.sort(Comparator.comparingLong(m -> -((Long) m.get("startedAt"))));
+        return out;
+    }
+
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(sseTimeoutMinutes * 60_000L);
+        emitters.add(emitter);
+        emitter.onCompletion(() -> emitters.remove(emitter));
+        emitter.onTimeout(() -> emitters.remove(emitter));
+        emitter.onError(e -> emitters.remove(emitter));
+        send(emitter, snapshot());
+        return emitter;
+    }
+
+    // 구독자가 있을 때만 주기적으로 스냅샷을 밀어준다
+    @Scheduled(fixedDelayString = "${app.progress.pushMs:1000}")
+    public void push() {
+        if (emitters.isEmpty()) return;
+        List<Map<String, Object>> data = snapshot();
+        for (SseEmitter emitter : emitters) send(emitter, data);
+    }
+
+    private void send(SseEmitter emitter, List<Map<String, Object>> data) {
+        try {
+            emitter.send(SseEmitter.event().name("progress").data(data));
+        } catch (IOException | IllegalStateException e) {
+            emitters.remove(emitter);
+            log.debug("[Progress] drop SSE subscriber: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.team.aiarticle.ai_article_backend.service.admin;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 파티션 테이블 관리 (db/partitioning.sql 적용 후에만 동작, 파티션이 없으면 모두 no-op).
+ * - category_keyword_trend_snapshot: TO_DAYS(window_start) 일 단위 RANGE 파티션 + pmax → pmax를 잘라 앞으로 aheadDays일치를 미리 만든다
+ *   (pmax가 있으므로 이 작업이 며칠 멈춰도 INSERT는 실패하지 않고 pmax에 쌓인다)
+ * - extracted_keyword_v2: processed_content_id RANGE 파티션 → 하루 한 번 pmax를 잘라 그날까지의 행을 닫는다
+ *   (유니크 키 (processed_content_id, keyword_id) 업서트를 유지하려고 시간 대신 단조 증가 ID로 나눈다)
+ * 보존 기간이 지난 파티션은 DROP PARTITION으로 지우고, 경계에 걸친 나머지 행만 ChunkedPurger가 처리한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PartitionMaintenanceService {
+
+    static final String SNAPSHOT_TABLE = "category_keyword_trend_snapshot";
+    static final String KEYWORD_TABLE = "extracted_keyword_v2";
+
+    // MariaDB TO_DAYS('1970-01-01')
+    private static final long TO_DAYS_EPOCH = 719528L;
+    private static final DateTimeFormatter NAME_FMT = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private record Partition(String name, Long lessThan) {}
+
+    private final JdbcTemplate jdbc;
+
+    @Value("${app.partition.aheadDays:7}")
+    private int aheadDays;
+
+    /** 스냅샷 미래 파티션 생성 + 키워드 파티션 일 단위 분할 */
+    public String maintain() {
+        int added = ensureSnapshotPartitions(LocalDate.now());
+        boolean split = splitKeywordPartition(LocalDate.now());
+        return "snapshotPartitionsAdded=" + added + ", keywordSplit=" + split;
+    }
+
+    int ensureSnapshotPartitions(LocalDate today) {
+        List<Partition> parts = partitions(SNAPSHOT_TABLE);
+        if (parts.isEmpty()) return 0;
+        long last = parts.stream().filter(p -> p.lessThan() != null).mapToLong(Partition::lessThan).max().orElse(0);
+        long target = today.plusDays(Math.max(1, aheadDays) + 1L).toEpochDay() + TO_DAYS_EPOCH;
+
+        List<String> defs = new ArrayList<>();
+        for (long upper = last + 1; upper <= target; upper++) {
+            LocalDate day = LocalDate.ofEpochDay(upper - 1 - TO_DAYS_EPOCH);
+            defs.add("PARTITION p" + day.format(NAME_FMT) + " VALUES LESS THAN (" + upper + ")");
+        }
+        if (defs.isEmpty()) return 0;
+        boolean hasMax = parts.stream().anyMatch(p -> p.lessThan() == null);
+        if (hasMax) {
+            // pmax에 이미 들어간 행은 REORGANIZE가 해당 날짜 파티션으로 옮긴다
+            jdbc.execute("ALTER TABLE " + SNAPSHOT_TABLE + " REORGANIZE PARTITION pmax INTO ("
+                    + String.join(", ", defs) + ", PARTITION pmax VALUES LESS THAN MAXVALUE)");
+        } else {
+            jdbc.execute("ALTER TABLE " + SNAPSHOT_TABLE + " ADD PARTITION (" + String.join(", ", defs) + ")");
+        }
+        log.info("[Partition] {} added {} partitions up to TO_DAYS {}", SNAPSHOT_TABLE, defs.size(), target);
+        return defs.size();
+    }
+
+    // pmax에 쌓인 행을 "p{분할일}" 파티션으로 닫는다. 같은 날 두 번 자르지 않는다.
+    boolean splitKeywordPartition(LocalDate today) {
+        List<Partition> parts = partitions(KEYWORD_TABLE);
+        if (parts.isEmpty()) return false;
+        String name = "p" + today.format(NAME_FMT);
+        if (parts.stream().anyMatch(p -> p.name().equals(name))) return false;
+
+        long last = parts.stream().filter(p -> p.lessThan() != null).mapToLong(Partition::lessThan).max().orElse(0);
+        Long boundary = jdbc.queryForObject(
+                "SELECT COALESCE(MAX(processed_content_id), 0) + 1 FROM " + KEYWORD_TABLE, Long.class);
+        if (boundary == null || boundary <= last) return false;
+
+        jdbc.execute("ALTER TABLE " + KEYWORD_TABLE + " REORGANIZE PARTITION pmax INTO ("
+                + "PARTITION " + name + " VALUES LESS THAN (" + boundary + "), "
+                + "PARTITION pmax VALUES LESS THAN MAXVALUE)");
+        log.info("[Partition] {} split at processed_content_id < {}", KEYWORD_TABLE, boundary);
+        return true;
+    }
+
+    /**
+     * window_start가 cutoff 이전 날짜인 파티션 중, 모든 행의 generated_at도 cutoff 이전인 것만 제거한다.
+     * (행 단위 정리와 같은 기준. 지난 날짜를 다시 집계한 최신 스냅샷이 든 파티션은 남긴다) @return 제거된 행 수(추정치)
+     */
+    public long dropExpiredSnapshots(LocalDateTime cutoff) {
+        long cutoffDays = cutoff.toLocalDate().toEpochDay() + TO_DAYS_EPOCH;
+        List<Partition> parts = partitions(SNAPSHOT_TABLE);
+        List<String> names = new ArrayList<>();
+        for (Partition p : parts) {
+            if (p.lessThan() == null || p.lessThan() > cutoffDays) continue;
+            boolean fresh = !jdbc.queryForList("SELECT 1 FROM " + SNAPSHOT_TABLE + " PARTITION (" + p.name() + ")"
+                    + " WHERE generated_at >= ? LIMIT 1", cutoff).isEmpty();
+            if (!fresh) names.add(p.name());
+        }
+        return drop(SNAPSHOT_TABLE, parts, names, true);
+    }
+
+    /** cutoff 이후 처리된 apc가 하나도 없는 키워드 파티션 제거. @return 제거된 행 수(추정치) */
+    public long dropExpiredKeywords(LocalDateTime cutoff) {
+        Long minLive = jdbc.queryForObject("""
+            SELECT COALESCE(
+              (SELECT MIN(processed_content_id) FROM article_processed_content_v2 WHERE processed_at >= ?),
+              (SELECT COALESCE(MAX(processed_content_id), 0) + 1 FROM article_processed_content_v2))
+        """, Long.class, cutoff);
+        return minLive == null ? 0 : dropWhere(KEYWORD_TABLE, minLive, false);
+    }
+
+    private long dropWhere(String table, long maxLessThan, boolean keepOne) {
+        List<Partition> parts = partitions(table);
+        List<String> names = new ArrayList<>();
+        for (Partition p : parts) {
+            if (p.lessThan() != null && p.lessThan() <= maxLessThan) names.add(p.name());
+        }
+        return drop(table, parts, names, keepOne);
+    }
+
+    private long drop(String table, List<Partition> parts, List<String> names, boolean keepOne) {
+        // 파티션을 전부 지울 수는 없으므로 최소 하나는 남긴다
+        if (keepOne && !names.isEmpty() && names.size() == parts.size()) names.remove(names.size() - 1);
+        if (names.isEmpty()) return 0;
+
+        Long rows = jdbc.queryForObject("SELECT COALESCE(SUM(TABLE_ROWS), 0) FROM information_schema.PARTITIONS"
+                + " WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IN ("
+                + String.join(",", names.stream().map(n -> "?").toList()) + ")",
+                Long.class, concat(table, names));
+        jdbc.execute("ALTER TABLE " + table + " DROP PARTITION " + String.join(", ", names));
+        log.info("[Partition] {} dropped {} (~{} rows)", table, names, rows);
+        return rows == null ? 0 : rows;
+    }
+
+    private List<Partition> partitions(String table) {
+        return jdbc.query("""
+            SELECT PARTITION_NAME, PARTITION_DESCRIPTION
+            FROM information_schema.PARTITIONS
+            WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL
+            ORDER BY PARTITION_ORDINAL_POSITION
+        """, (rs, i) -> {
+            String desc = rs.getString(2);
+            Long lessThan = desc == null || "MAXVALUE".equalsIgnoreCase(desc) ? null : Long.parseLong(desc.trim());
+            return new Partition(rs.getString(1), lessThan);
+        }, table);
+    }
+
+    private static Object[] concat(String first, List<String> rest) {
+        Object[] args = new Object[rest.size() + 1];
+        args[0] = first;
+        for (int i = 0; i < rest.size(); i++) args[i + 1] = rest.get(i);
+        return args;
+    }
+}
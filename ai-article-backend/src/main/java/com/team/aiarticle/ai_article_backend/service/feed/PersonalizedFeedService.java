@@ -0,0 +1,170 @@
+package com.team.aiarticle.ai_article_backend.service.feed;
+
+import com.team.aiarticle.ai_article_backend.common.CacheMeters;
+import com.team.aiarticle.ai_article_backend.dto.FeedCardResponse;
+import com.team.aiarticle.ai_article_backend.entity.ArticleV2;
+import com.team.aiarticle.ai_article_backend.repository.ArticleV2Repository;
+import com.team.aiarticle.ai_article_backend.service.CategoryRegistry;
+import com.team.aiarticle.ai_article_backend.service.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 개인화 피드.
+ * - 카테고리별 최근 기사 카드(본문 대신 발췌만)를 메모리 링 버퍼(RecentArticleRing)에 유지하고 주기적으로 새 기사만 추가한다
+ * - 사용자의 관심 카테고리 버퍼들을 article_id 내림차순으로 병합한다 (관심사가 없으면 전체 카테고리)
+ * - 이미 읽은 기사는 사용자별 BitSet(article_id 비트)으로 걸러낸다
+ * 관심사/읽음 정보는 캐시에서 읽으므로 요청마다 SQL을 실행하지 않는다(사용자별 최초 1회 적재 제외).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PersonalizedFeedService {
+
+    private static final String NO_CATEGORY = "";
+
+    private final ArticleV2Repository articleV2Repository;
+    private final CategoryRegistry categoryRegistry;
+    private final UserService userService;
+    private final JdbcTemplate jdbc;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.feed.perCategory:200}")
+    private int perCategory;
+
+    // 기동 시 적재할 최근 기사 수
+    @Value("${app.feed.initialWindow:3000}")
+    private int initialWindow;
+
+    @Value("${app.feed.userCacheSize:5000}")
+    private int userCacheSize;
+
+    private final Map<String, RecentArticleRing> rings = new ConcurrentHashMap<>();
+    private volatile int lastArticleId = -1;
+
+    // userId → 읽은 article_id 비트맵 (접근 순 LRU)
+    private final Map<Integer, BitSet> readBits = Collections.synchronizedMap(
+            new LinkedHashMap<>(256, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Integer, BitSet> eldest) {
+                    return size() > Math.max(100, userCacheSize);
+                }
+            });
+    private CacheMeters readBitsMeters;
+
+    @PostConstruct
+    void initMetrics() {
+        readBitsMeters = new CacheMeters(meterRegistry, "feedReadBits", readBits);
+    }
+
+    public List<FeedCardResponse> feed(Integer userId, int limit) {
+        if (lastArticleId < 0) refresh();
+        int size = Math.max(1, Math.min(limit, 200));
+
+        Collection<String> categories = userId != null ? userService.getUserInterestCategories(userId) : List.of();
+        List<List<FeedCardResponse>> sources = new ArrayList<>();
+        if (categories.isEmpty()) {
+            rings.values().forEach(r -> sources.add(r.snapshot()));
+        } else {
+            for (String code : categories) {
+                RecentArticleRing ring = rings.get(code);
+                if (ring != null) sources.add(ring.snapshot());
+            }
+        }
+        BitSet read = userId != null ? readBitsOf(userId) : null;
+        return mergeNewestFirst(sources, read, size);
+    }
+
+    /** 조회 이력이 기록될 때 호출 → 이후 피드에서 해당 기사를 제외 */
+    public void markRead(Integer userId, Integer articleId) {
+        if (userId == null || articleId == null || articleId < 0) return;
+        BitSet bits = readBits.get(userId);
+        if (bits != null) {
+            synchronized (bits) {
+                bits.set(articleId);
+            }
+        }
+    }
+
+    /** 마지막으로 본 article_id 이후 기사만 읽어 링 버퍼에 추가 */
+    @Scheduled(fixedDelayString = "${app.feed.refreshMs:60000}")
+    public synchronized void refresh() {
+        List<ArticleV2> fresh;
+        if (lastArticleId < 0) {
+            fresh = new ArrayList<>(articleV2Repository.findAllByOrderByArticleIdDesc(PageRequest.of(0, Math.max(1, initialWindow))));
+            Collections.reverse(fresh);
+        } else {
+            fresh = articleV2Repository.findByArticleIdGreaterThanOrderByArticleIdAsc(lastArticleId, PageRequest.of(0, Math.max(1, initialWindow)));
+        }
+        int maxId = Math.max(lastArticleId, 0);
+        for (ArticleV2 a : fresh) {
+            String code = a.getCategoryCode() != null ? a.getCategoryCode() : NO_CATEGORY;
+            rings.computeIfAbsent(code, c -> new RecentArticleRing(perCategory))
+                 .add(FeedCardResponse.from(a, categoryRegistry.nameOf(a.getCategoryCode(), "미분류")));
+            maxId = Math.max(maxId, a.getArticleId());
+        }
+        lastArticleId = maxId;
+        if (!fresh.isEmpty()) {
+            log.info("[FEED] added {} articles (lastArticleId={}, categories={})", fresh.size(), lastArticleId, rings.size());
+        }
+    }
+
+    private BitSet readBitsOf(Integer userId) {
+        BitSet bits = readBits.get(userId);
+        if (bits != null) {
+            readBitsMeters.hit();
+            return bits;
+        }
+        readBitsMeters.miss();
+        BitSet loaded = new BitSet();
+        jdbc.query("SELECT article_id FROM user_read_history WHERE user_id = ?",
+                rs -> { loaded.set(rs.getInt(1)); }, userId);
+        BitSet prev = readBits.putIfAbsent(userId, loaded);
+        return prev != null ? prev : loaded;
+    }
+
+    private record Cursor(List<FeedCardResponse> list, int index) {
+        FeedCardResponse head() { return list.get(index); }
+    }
+
+    // 각 소스는 최신순 정렬 → 힙으로 k-way 병합
+    private static List<FeedCardResponse> mergeNewestFirst(List<List<FeedCardResponse>> sources, BitSet read, int limit) {
+        PriorityQueue<Cursor> heap = new PriorityQueue<>(
+                (x, y) -> Integer.compare(y.head().getArticleId(), x.head().getArticleId()));
+        for (List<FeedCardResponse> src : sources) {
+            if (!src.isEmpty()) heap.add(new Cursor(src, 0));
+        }
+        List<FeedCardResponse> out = new ArrayList<>(limit);
+        while (!heap.isEmpty() && out.size() < limit) {
+            Cursor c = heap.poll();
+            FeedCardResponse a = c.head();
+            if (!isRead(read, a.getArticleId())) out.add(a);
+            if (c.index() + 1 < c.list().size()) heap.add(new Cursor(c.list(), c.index() + 1));
+        }
+        return out;
+    }
+
+    private static boolean isRead(BitSet read, Integer articleId) {
+        if (read == null || articleId == null) return false;
+        synchronized (read) {
+            return read.get(articleId);
+        }
+    }
+}
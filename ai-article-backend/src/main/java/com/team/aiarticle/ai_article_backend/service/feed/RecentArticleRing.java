@@ -0,0 +1,36 @@
+package com.team.aiarticle.ai_article_backend.service.feed;
+
+import com.team.aiarticle.ai_article_backend.dto.FeedCardResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 카테고리 하나의 최근 기사 카드(FeedCardResponse, 본문 없음) 고정 크기 링 버퍼. 가득 차면 가장 오래된 기사를 덮어쓴다.
+ * article_id 오름차순으로만 add된다고 가정하므로 snapshot()은 최신(큰 id)부터 돌려준다.
+ */
+final class RecentArticleRing {
+
+    private final FeedCardResponse[] slots;
+    private int head;   // 다음에 쓸 위치
+    private int size;
+
+    RecentArticleRing(int capacity) {
+        this.slots = new FeedCardResponse[Math.max(1, capacity)];
+    }
+
+    synchronized void add(FeedCardResponse article) {
+        slots[head] = article;
+        head = (head + 1) % slots.length;
+        if (size < slots.length) size++;
+    }
+
+    /** 최신순 복사본 */
+    synchronized List<FeedCardResponse> snapshot() {
+        List<FeedCardResponse> out = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            out.add(slots[(head - i + slots.length) % slots.length]);
+        }
+        return out;
+    }
+}
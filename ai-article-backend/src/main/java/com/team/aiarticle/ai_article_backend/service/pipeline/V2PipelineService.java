@@ -1,23 +1,44 @@
 package com.team.aiarticle.ai_article_backend.service.pipeline;
 
-import com.team.aiarticle.ai_article_backend.nlp.HtmlExtractor;
+import com.team.aiarticle.ai_article_backend.entity.ArticleV2;
+import com.team.aiarticle.ai_article_backend.nlp.ArticleTextPreprocessor;
+import com.team.aiarticle.ai_article_backend.nlp.KoreanNlpService;
 import com.team.aiarticle.ai_article_backend.nlp.RagAiApiCaller;
+import com.team.aiarticle.ai_article_backend.nlp.TfidfKeywordExtractor;
 import com.team.aiarticle.ai_article_backend.repository.ArticleV2Repository;
+import com.team.aiarticle.ai_article_backend.scheduler.AdminJobs;
+import com.team.aiarticle.ai_article_backend.service.admin.JobLeaseService;
+import com.team.aiarticle.ai_article_backend.service.admin.JobProgressRegistry;
+import com.team.aiarticle.ai_article_backend.service.related.RelatedArticleIndex;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.sql.ResultSet;
+import java.sql.Statement;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Slf4j
 @Service
@@ -27,25 +48,228 @@ public class V2PipelineService implements PipelineService {
 
     private final JdbcTemplate jdbc;
     private final RagAiApiCaller ragAiApiCaller; // KoreanNlpService 대신 주입
-    private final HtmlExtractor htmlExtractor;
+    private final ArticleTextPreprocessor preprocessor;
+    private final KoreanNlpService nlpService;
+    private final TfidfKeywordExtractor tfidfExtractor;
     private final ArticleV2Repository v2Repo;
+    private final RelatedArticleIndex relatedIndex;
+    private final TransactionTemplate tx;
+    private final JobLeaseService leases; // claim 소유자 표시에 노드 id 사용
+    private final JobProgressRegistry progress;
+    private final MeterRegistry meterRegistry;
 
     @Value("${app.tfidf.topN:30}")
     private int topN;
 
+    // ai: RAG AI 서버(/analyze) 호출, tfidf: 로컬 BM25 추출기
+    @Value("${app.pipeline.keywordProvider:ai}")
+    private String keywordProvider;
+
+    @Value("${app.pipeline.preprocess.parallelism:4}")
+    private int preprocessParallelism;
+
+    // 노드 하나에서 동시에 키워드 백로그를 처리할 워커 수 (AI 서버 동시 처리 한도 이내로)
+    @Value("${app.pipeline.keywordWorkers:1}")
+    private int keywordWorkers;
+
+    @Value("${app.pipeline.claim.batchSize:20}")
+    private int claimBatchSize;
+
+    // claim 보유 시간: 워커가 죽으면 이 시간이 지난 뒤 다른 워커가 다시 가져간다
+    @Value("${app.pipeline.claim.leaseSeconds:600}")
+    private int claimLeaseSeconds;
+
+    @Value("${app.pipeline.claim.retryMinutes:60}")
+    private int claimRetryMinutes;
+
+    @Value("${app.pipeline.claim.maxBatchesPerRun:50}")
+    private int claimMaxBatches;
+
+    private ExecutorService preprocessExecutor;
+    private ExecutorService keywordExecutor;
+
+    /**
+     * 키워드 백로그 처리: keywordWorkers개의 워커가 각자 claim 배치를 잡아 서로 겹치지 않게 분석한다.
+     * claim은 article_processed_content_v2 행에 남기므로 여러 인스턴스가 동시에 돌려도 같은 기사를 두 번 분석하지 않는다.
+     */
     @Override
     public int computeAndStoreTfidf() {
-        LocalDateTime from = LocalDateTime.now().minusYears(10);
-        LocalDateTime to   = LocalDateTime.now().plusDays(1);
-        return computeAndStoreTfidf(from, to);
+        return stageTimer("keywords").record(this::drainBacklogWithWorkers);
+    }
+
+    private int drainBacklogWithWorkers() {
+        int workers = Math.max(1, keywordWorkers);
+        JobProgressRegistry.Tracker tracker = progress.start(AdminJobs.ANALYZE_KEYWORDS, -1, backlogThisRun(workers));
+        List<CompletableFuture<Integer>> futures = new ArrayList<>(workers);
+        for (int i = 0; i < workers; i++) {
+            futures.add(CompletableFuture.supplyAsync(() -> drainKeywordBacklog(tracker), keywordExecutor));
+        }
+        int saved;
+        try {
+            saved = futures.stream().mapToInt(CompletableFuture::join).sum();
+        } catch (RuntimeException e) {
+            tracker.finish(false);
+            throw e;
+        }
+        tracker.finish(true);
+        log.info("[V2Pipeline] keyword backlog: workers={}, upserted={}", workers, saved);
+        return saved;
+    }
+
+    // 이번 회차에 처리할 수 있는 최대 건수(워커 × 배치 수 × 배치 크기)로 잘라 진행률 분모로 쓴다
+    private long backlogThisRun(int workers) {
+        Long backlog = jdbc.queryForObject("""
+            SELECT COUNT(*) FROM article_processed_content_v2 p
+            WHERE p.kw_pending = 1
+              AND (p.kw_claimed_until IS NULL OR p.kw_claimed_until < NOW(3))
+              AND NOT EXISTS (SELECT 1 FROM articlev2 a WHERE a.article_id = p.article_id AND a.canonical_article_id IS NOT NULL)
+        """, Long.class);
+        long cap = (long) workers * Math.max(1, claimMaxBatches) * Math.max(1, claimBatchSize);
+        return Math.min(backlog == null ? 0 : backlog, cap);
+    }
+
+    private int drainKeywordBacklog(JobProgressRegistry.Tracker tracker) {
+        int saved = 0;
+        for (int batch = 0; batch < Math.max(1, claimMaxBatches); batch++) {
+            String claimId = leases.nodeId() + "#" + UUID.randomUUID().toString().substring(0, 8);
+            List<ArticleInfo> claimed = claimBacklog(claimId);
+            if (claimed.isEmpty()) break;
+            try {
+                saved += upsertKeywordsForArticles(claimed, tracker);
+            } finally {
+                releaseClaims(claimId);
+            }
+        }
+        return saved;
+    }
+
+    // 키워드 대기(kw_pending=1)이고 claim이 비었거나 만료된 apc 행을 claimId로 표시한 뒤 읽어온다 (단일 UPDATE라 워커 간 경합에 안전)
+    // kw_pending은 apc INSERT 시 기본값 1, 키워드 저장 또는 본문 없음 확정 시 0 → ix_apc_v2_kw_pending으로 대기 행만 훑는다
+    private List<ArticleInfo> claimBacklog(String claimId) {
+        int claimed = jdbc.update("""
+            UPDATE article_processed_content_v2 p
+            SET p.kw_claimed_by = ?, p.kw_claimed_until = NOW(3) + INTERVAL ? SECOND
+            WHERE p.kw_pending = 1
+              AND (p.kw_claimed_until IS NULL OR p.kw_claimed_until < NOW(3))
+              AND NOT EXISTS (SELECT 1 FROM articlev2 a WHERE a.article_id = p.article_id AND a.canonical_article_id IS NOT NULL)
+            ORDER BY p.processed_content_id
+            LIMIT ?
+        """, claimId, Math.max(1, claimLeaseSeconds), Math.max(1, claimBatchSize));
+        if (claimed == 0) return List.of();
+
+        return jdbc.query("""
+            SELECT a.article_id, a.title, a.content, p.processed_text, p.processed_tokens
+            FROM article_processed_content_v2 p
+            JOIN articlev2 a ON a.article_id = p.article_id
+            WHERE p.kw_claimed_by = ?
+            ORDER BY p.processed_content_id
+        """, (ResultSet rs, int rowNum) -> new ArticleInfo(
+                rs.getInt("article_id"),
+                rs.getString("title"),
+                rs.getString("content"),
+                rs.getString("processed_text"),
+                rs.getString("processed_tokens")
+        ), claimId);
+    }
+
+    // 성공한 행은 claim을 비우고, 키워드를 얻지 못한 행은 retryMinutes 뒤에 다시 잡히도록 만료 시각만 미룬다
+    private void releaseClaims(String claimId) {
+        jdbc.update("""
+            UPDATE article_processed_content_v2 p
+            SET p.kw_claimed_by = NULL,
+                p.kw_claimed_until = CASE
+                  WHEN p.kw_pending = 0 THEN NULL ELSE NOW(3) + INTERVAL ? MINUTE END
+            WHERE p.kw_claimed_by = ?
+        """, Math.max(0, claimRetryMinutes), claimId);
     }
     
-    // processNewArticles는 전처리 과정이므로 현재는 수정하지 않음.
-    // 만약 rag-ai 서버가 전처리까지 담당한다면 이 부분도 수정 필요.
+    /**
+     * 전처리 단계: 아직 article_processed_content_v2가 없는 기사를 골라
+     * 본문 정제 + 토큰화를 병렬로 수행한 뒤 한 번의 batch INSERT로 저장한다.
+     * 키워드 단계는 여기서 저장된 processed_text를 그대로 사용한다.
+     */
     @Override
     public int processNewArticles(int limit) {
-        // ... (기존 코드 유지) ...
-        return 0; // 이 부분은 실제 구현에 따라 변경 필요
+        return stageTimer("preprocess").record(() -> preprocessNew(limit));
+    }
+
+    // 단계별 소요 시간: pipeline.stage{stage=preprocess|keywords}
+    private Timer stageTimer(String stage) {
+        return Timer.builder("pipeline.stage").tag("stage", stage).register(meterRegistry);
+    }
+
+    private int preprocessNew(int limit) {
+        List<ArticleV2> pending = v2Repo.pickForPreprocessV2(Math.max(1, limit));
+        if (pending.isEmpty()) return 0;
+
+        List<CompletableFuture<Preprocessed>> futures = pending.stream()
+                .map(a -> CompletableFuture.supplyAsync(() -> preprocessArticle(a), preprocessExecutor))
+                .toList();
+        List<Preprocessed> rows = futures.stream()
+                .map(CompletableFuture::join)
+                .toList();
+
+        // 본문이 비어 있거나 전처리 중 예외가 난 기사도 빈 행으로 기록해 다음 회차에 다시 뽑히지 않게 한다
+        // (빈 processed_text는 키워드 단계가 원문에서 다시 전처리를 시도한다)
+        int[][] results = jdbc.batchUpdate("""
+            INSERT INTO article_processed_content_v2 (article_id, processed_text, processed_tokens, processed_at, kw_pending)
+            VALUES (?, ?, ?, NOW(), ?)
+            ON DUPLICATE KEY UPDATE
+              processed_text = VALUES(processed_text),
+              processed_tokens = VALUES(processed_tokens)
+        """, rows, 200, (ps, row) -> {
+            ps.setInt(1, row.articleId());
+            ps.setString(2, row.text());
+            ps.setString(3, row.tokens());
+            // 유사 중복(canonical이 있는) 기사는 키워드 백로그에 넣지 않는다
+            ps.setBoolean(4, !row.duplicate());
+        });
+
+        // 갱신 건수 1=신규, 2=갱신, 0=변경 없음. 드라이버가 건수를 모르면 SUCCESS_NO_INFO(-2)를 준다
+        int written = 0;
+        for (int[] batch : results) {
+            for (int n : batch) {
+                if (n > 0 || n == Statement.SUCCESS_NO_INFO) written++;
+            }
+        }
+        long failed = rows.stream().filter(Preprocessed::failed).count();
+        log.info("[V2Pipeline] preprocessed {} (failed {}) / picked {}", written, failed, pending.size());
+        return written;
+    }
+
+    private Preprocessed preprocessArticle(ArticleV2 article) {
+        try {
+            String text = preprocessor.preprocess(article.getContent());
+            String tokens = text.isBlank() ? "" : String.join(" ", nlpService.extractContentTokens(text));
+            return new Preprocessed(article.getArticleId(), text, tokens, article.getCanonicalArticleId() != null, false);
+        } catch (Exception e) {
+            log.warn("[V2Pipeline] preprocess failed for article_id={}: {}", article.getArticleId(), e.getMessage());
+            return new Preprocessed(article.getArticleId(), "", "", article.getCanonicalArticleId() != null, true);
+        }
+    }
+
+    @PostConstruct
+    void initExecutors() {
+        AtomicInteger seq = new AtomicInteger();
+        preprocessExecutor = ExecutorServiceMetrics.monitor(meterRegistry,
+                Executors.newFixedThreadPool(Math.max(1, preprocessParallelism), r -> {
+                    Thread t = new Thread(r, "v2-preprocess-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                }), "v2Preprocess");
+        AtomicInteger kwSeq = new AtomicInteger();
+        keywordExecutor = ExecutorServiceMetrics.monitor(meterRegistry,
+                Executors.newFixedThreadPool(Math.max(1, keywordWorkers), r -> {
+                    Thread t = new Thread(r, "v2-keyword-" + kwSeq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                }), "v2Keyword");
+    }
+
+    @PreDestroy
+    void shutdownExecutors() {
+        preprocessExecutor.shutdown();
+        keywordExecutor.shutdown();
     }
 
     public int computeAndStoreTfidf(LocalDateTime from, LocalDateTime to) {
@@ -53,11 +277,13 @@ public class V2PipelineService implements PipelineService {
         Objects.requireNonNull(to);
         log.info("[V2Pipeline] computeAndStoreTfidf range: {} ~ {}", from, to);
 
-        // APC_DOC 대신 필요한 정보를 직접 조회 (HTML 본문이 필요하므로)
+        // 이미 전처리된 텍스트가 있으면 재사용하기 위해 apc를 함께 조회
         List<ArticleInfo> articles = jdbc.query("""
-            SELECT a.article_id, a.title, a.content
+            SELECT a.article_id, a.title, a.content, p.processed_text, p.processed_tokens
             FROM articlev2 a
+            LEFT JOIN article_processed_content_v2 p ON p.article_id = a.article_id
             WHERE a.published_at >= ? AND a.published_at < ?
+              AND a.canonical_article_id IS NULL
               AND NOT EXISTS (
                 SELECT 1 FROM extracted_keyword_v2 ek
                 JOIN article_processed_content_v2 apc ON ek.processed_content_id = apc.processed_content_id
@@ -66,67 +292,122 @@ public class V2PipelineService implements PipelineService {
         """, (ResultSet rs, int rowNum) -> new ArticleInfo(
                 rs.getInt("article_id"),
                 rs.getString("title"),
-                rs.getString("content")
+                rs.getString("content"),
+                rs.getString("processed_text"),
+                rs.getString("processed_tokens")
         ), from, to);
 
-        return upsertKeywordsForArticles(articles);
+        JobProgressRegistry.Tracker tracker = progress.start("keywordsRange", -1, articles.size());
+        int saved = upsertKeywordsForArticles(articles, tracker);
+        tracker.finish(true);
+        return saved;
     }
 
-    private int upsertKeywordsForArticles(List<ArticleInfo> articles) {
-        int savedTotal = 0;
+    /** 재실행 진행률 분모: afterArticleId 이후 남은 대상 기사 수 */
+    public long countRerunCandidates(LocalDateTime from, LocalDateTime to, int afterArticleId, boolean force) {
+        Long n = jdbc.queryForObject("""
+            SELECT COUNT(*)
+            FROM articlev2 a
+            WHERE a.published_at >= ? AND a.published_at < ?
+              AND a.canonical_article_id IS NULL
+              AND a.article_id > ?
+              AND (? OR NOT EXISTS (
+                SELECT 1 FROM extracted_keyword_v2 ek
+                JOIN article_processed_content_v2 apc ON ek.processed_content_id = apc.processed_content_id
+                WHERE apc.article_id = a.article_id
+              ))
+        """, Long.class, from, to, afterArticleId, force);
+        return n == null ? 0 : n;
+    }
 
+    /**
+     * 관리자 재실행용: 기간 내 기사를 article_id 순으로 afterArticleId 다음부터 limit개 처리한다.
+     * 키워드 분석(AI/로컬)은 트랜잭션 밖에서 끝내고, 기존 키워드 삭제 + 새 키워드 저장은 청크 단위 한 트랜잭션으로 묶는다.
+     * 중간에 실패하면 해당 청크는 이전 키워드 그대로 남으므로 마지막 커서부터 다시 돌리면 된다.
+     * 분석 중 예외가 난 기사는 failedIds로 돌려준다(본문/결과가 없어 건너뛴 기사는 skipped로만 센다).
+     * force=false면 키워드가 아직 없는 기사만, force=true면 전처리부터 다시 해서 모두 교체한다.
+     */
+    public RerunChunk rerunKeywordsChunk(LocalDateTime from, LocalDateTime to, int afterArticleId, int limit, boolean force) {
+        List<ArticleInfo> articles = jdbc.query("""
+            SELECT a.article_id, a.title, a.content, p.processed_text, p.processed_tokens
+            FROM articlev2 a
+            LEFT JOIN article_processed_content_v2 p ON p.article_id = a.article_id
+            WHERE a.published_at >= ? AND a.published_at < ?
+              AND a.canonical_article_id IS NULL
+              AND a.article_id > ?
+              AND (? OR NOT EXISTS (
+                SELECT 1 FROM extracted_keyword_v2 ek
+                JOIN article_processed_content_v2 apc ON ek.processed_content_id = apc.processed_content_id
+                WHERE apc.article_id = a.article_id
+              ))
+            ORDER BY a.article_id
+            LIMIT ?
+        """, (ResultSet rs, int rowNum) -> new ArticleInfo(
+                rs.getInt("article_id"),
+                rs.getString("title"),
+                rs.getString("content"),
+                force ? null : rs.getString("processed_text"),
+                force ? null : rs.getString("processed_tokens")
+        ), from, to, afterArticleId, force, limit);
+        if (articles.isEmpty()) return new RerunChunk(afterArticleId, 0, 0, 0, List.of());
+
+        boolean local = useLocalTfidf();
+        if (local) tfidfExtractor.refresh();
+        List<Extracted> extracted = new ArrayList<>(articles.size());
+        List<Integer> failedIds = new ArrayList<>();
         for (ArticleInfo article : articles) {
-            String htmlContent = article.htmlContent();
-            if (htmlContent == null || htmlContent.isBlank()) {
-                htmlContent = getHtmlForArticleId(article.articleId()); // Fallback
+            try {
+                Extracted e = extract(article, local);
+                if (e != null) extracted.add(e);
+            } catch (Exception e) {
+                failedIds.add(article.articleId());
+                log.error("[V2Pipeline] article_id={} 분석 중 오류 발생: {}", article.articleId(), e.getMessage(), e);
             }
+        }
 
-            if (htmlContent == null || htmlContent.isBlank()) {
-                log.warn("[V2Pipeline] article_id={}에 대한 HTML 컨텐츠가 없어 스킵합니다.", article.articleId());
-                continue;
+        Map<Extracted, Map<Integer, Double>> indexed = new LinkedHashMap<>();
+        Integer saved = tx.execute(status -> {
+            int n = 0;
+            for (Extracted e : extracted) {
+                Map<Integer, Double> scores = new LinkedHashMap<>();
+                n += storeKeywords(e, true, scores);
+                indexed.put(e, scores);
             }
+            return n;
+        });
+        // 커밋된 뒤에만 관련 기사 인덱스에 반영
+        indexed.forEach((e, scores) -> relatedIndex.index(e.article().articleId(), e.article().title(), scores));
 
-            try {
-                // RagAiApiCaller를 사용하여 키워드 분석 요청
-                RagAiApiCaller.AnalyzeResponse response = ragAiApiCaller.analyze(
-                        htmlContent,
-                        article.title(),
-                        Collections.emptyMap() // 필요 시 메타데이터 추가
-                );
-
-                if (response == null || response.getKeywords() == null || response.getKeywords().isEmpty()) {
-                    log.warn("[V2Pipeline] article_id={}에 대한 키워드 분석 결과가 없습니다.", article.articleId());
-                    continue;
-                }
+        int lastId = articles.get(articles.size() - 1).articleId();
+        int skipped = articles.size() - extracted.size() - failedIds.size();
+        return new RerunChunk(lastId, articles.size(), saved == null ? 0 : saved, skipped, failedIds);
+    }
 
-                // article_processed_content_v2에 데이터가 없을 수 있으므로 ID를 가져오거나 생성
-                Integer processedContentId = findOrCreateProcessedContentId(article.articleId());
-                if(processedContentId == null) {
-                    log.error("[V2Pipeline] article_id={}에 대한 processed_content_id를 생성하거나 찾을 수 없습니다.", article.articleId());
+    // 키워드를 저장하지 못한 기사(본문 없음, 분석 결과 없음, 예외)는 tracker에 실패로 센다
+    private int upsertKeywordsForArticles(List<ArticleInfo> articles, JobProgressRegistry.Tracker tracker) {
+        int savedTotal = 0;
+        boolean local = useLocalTfidf();
+        if (local && !articles.isEmpty()) {
+            tfidfExtractor.refresh();
+        }
+
+        for (ArticleInfo article : articles) {
+            try {
+                Extracted extracted = extract(article, local);
+                if (extracted == null) {
+                    tracker.advance(0, 1);
                     continue;
                 }
 
-
-                // 상위 키워드를 articlev2.word에 저장
-                updateArticleTopWords(article.articleId(), response.getKeywords());
-
-                // 각 키워드와 점수를 DB에 저장
-                for (var keywordScore : response.getKeywords()) {
-                    Integer keywordId = findOrCreateKeywordId(keywordScore.getWord());
-                    BigDecimal score = BigDecimal.valueOf(keywordScore.getScore()).setScale(6, RoundingMode.HALF_UP);
-
-                    int affected = jdbc.update("""
-                        INSERT INTO extracted_keyword_v2 (processed_content_id, keyword_id, score, extracted_at)
-                        VALUES (?, ?, ?, NOW())
-                        ON DUPLICATE KEY UPDATE
-                          score = VALUES(score),
-                          extracted_at = VALUES(extracted_at)
-                    """, processedContentId, keywordId, score);
-                    savedTotal += affected;
-                }
+                Map<Integer, Double> indexed = new LinkedHashMap<>();
+                savedTotal += storeKeywords(extracted, false, indexed);
+                // 관련 기사 인덱스에 증분 반영
+                relatedIndex.index(article.articleId(), article.title(), indexed);
+                tracker.advance(1, 0);
 
             } catch (Exception e) {
                 log.error("[V2Pipeline] article_id={} 분석 중 오류 발생: {}", article.articleId(), e.getMessage(), e);
+                tracker.advance(0, 1);
             }
         }
 
@@ -134,6 +415,92 @@ public class V2PipelineService implements PipelineService {
         return savedTotal;
     }
 
+    // 전처리 텍스트 확보 → 키워드 분석 → processed_content_id 조회. 저장할 것이 없으면 null
+    private Extracted extract(ArticleInfo article, boolean local) {
+        String text = article.processedText();
+        if (text == null || text.isBlank()) {
+            text = preprocessAndStore(article);
+        }
+
+        if (text == null || text.isBlank()) {
+            // 원문에서 다시 전처리해도 비어 있으면 더 할 일이 없다 → 키워드 대기에서 빼 반복 claim을 막는다
+            jdbc.update("UPDATE article_processed_content_v2 SET kw_pending = 0 WHERE article_id = ?", article.articleId());
+            log.warn("[V2Pipeline] article_id={}에 대한 본문이 없어 스킵합니다.", article.articleId());
+            return null;
+        }
+
+        String finalText = text;
+        List<RagAiApiCaller.KeywordScore> keywords = Timer.builder("pipeline.keyword.extract")
+                .tag("provider", local ? "tfidf" : "ai")
+                .register(meterRegistry)
+                .record(() -> local ? extractLocally(article, finalText) : analyzeWithAi(article, finalText));
+
+        if (keywords == null || keywords.isEmpty()) {
+            log.warn("[V2Pipeline] article_id={}에 대한 키워드 분석 결과가 없습니다.", article.articleId());
+            return null;
+        }
+
+        Integer processedContentId = findProcessedContentId(article.articleId());
+        if(processedContentId == null) {
+            log.error("[V2Pipeline] article_id={}에 대한 processed_content_id를 생성하거나 찾을 수 없습니다.", article.articleId());
+            return null;
+        }
+        return new Extracted(article, processedContentId, keywords);
+    }
+
+    // replace=true면 기존 키워드를 지우고 새 결과로 바꾼다. indexed에는 저장한 (keyword_id, score)를 채운다
+    private int storeKeywords(Extracted extracted, boolean replace, Map<Integer, Double> indexed) {
+        // 상위 키워드를 articlev2.word에 저장
+        updateArticleTopWords(extracted.article().articleId(), extracted.keywords());
+
+        if (replace) {
+            jdbc.update("DELETE FROM extracted_keyword_v2 WHERE processed_content_id = ?", extracted.processedContentId());
+        }
+
+        // 각 키워드와 점수를 DB에 저장
+        int saved = 0;
+        for (var keywordScore : extracted.keywords()) {
+            Integer keywordId = findOrCreateKeywordId(keywordScore.getWord());
+            BigDecimal score = BigDecimal.valueOf(keywordScore.getScore()).setScale(6, RoundingMode.HALF_UP);
+
+            int affected = jdbc.update("""
+                INSERT INTO extracted_keyword_v2 (processed_content_id, keyword_id, score, extracted_at)
+                VALUES (?, ?, ?, NOW())
+                ON DUPLICATE KEY UPDATE
+                  score = VALUES(score),
+                  extracted_at = VALUES(extracted_at)
+            """, extracted.processedContentId(), keywordId, score);
+            saved += affected;
+            indexed.put(keywordId, score.doubleValue());
+        }
+        // 키워드 백로그에서 뺀다
+        jdbc.update("UPDATE article_processed_content_v2 SET kw_pending = 0 WHERE processed_content_id = ?",
+                extracted.processedContentId());
+        return saved;
+    }
+
+    private boolean useLocalTfidf() {
+        return "tfidf".equalsIgnoreCase(keywordProvider);
+    }
+
+    private List<RagAiApiCaller.KeywordScore> analyzeWithAi(ArticleInfo article, String text) {
+        // 원문 HTML 대신 정제된 평문을 html_content로 전달 (페이로드/토큰 절감)
+        RagAiApiCaller.AnalyzeResponse response = ragAiApiCaller.analyze(
+                text,
+                article.title(),
+                Collections.emptyMap() // 필요 시 메타데이터 추가
+        );
+        return response == null ? null : response.getKeywords();
+    }
+
+    private List<RagAiApiCaller.KeywordScore> extractLocally(ArticleInfo article, String text) {
+        // 전처리 단계에서 저장한 토큰이 있으면 형태소 분석을 다시 하지 않는다
+        List<String> tokens = article.processedTokens() != null && !article.processedTokens().isBlank()
+                ? nlpService.tokenize(article.processedTokens())
+                : nlpService.extractContentTokens(text);
+        return tfidfExtractor.extract(tokens, topN);
+    }
+
     private void updateArticleTopWords(int articleId, List<RagAiApiCaller.KeywordScore> keywords) {
         try {
             String topWords = keywords.stream()
@@ -150,23 +517,33 @@ public class V2PipelineService implements PipelineService {
         }
     }
     
-    private Integer findOrCreateProcessedContentId(int articleId) {
+    /**
+     * 본문(없으면 article_raw_content)을 전처리해 article_processed_content_v2.processed_text에 저장한다.
+     * 이후 재실행에서는 저장된 텍스트를 그대로 재사용한다.
+     */
+    private String preprocessAndStore(ArticleInfo article) {
+        String raw = article.content();
+        if (raw == null || raw.isBlank()) {
+            raw = getHtmlForArticleId(article.articleId()); // Fallback
+        }
+        String text = preprocessor.preprocess(raw);
+        if (text.isBlank()) return text;
+
+        jdbc.update("""
+            INSERT INTO article_processed_content_v2 (article_id, processed_text, processed_at)
+            VALUES (?, ?, NOW())
+            ON DUPLICATE KEY UPDATE processed_text = VALUES(processed_text)
+        """, article.articleId(), text);
+        return text;
+    }
+
+    private Integer findProcessedContentId(int articleId) {
         try {
-            // 먼저 ID가 있는지 확인
             return jdbc.queryForObject(
                 "SELECT processed_content_id FROM article_processed_content_v2 WHERE article_id = ?",
                 Integer.class, articleId);
-        } catch (Exception ignore) {
-            // 없으면 새로 삽입
-            jdbc.update("INSERT IGNORE INTO article_processed_content_v2 (article_id, processed_text, processed_at) VALUES (?, '', NOW())", articleId);
-            // 다시 ID 조회
-            try {
-                return jdbc.queryForObject(
-                    "SELECT processed_content_id FROM article_processed_content_v2 WHERE article_id = ?",
-                    Integer.class, articleId);
-            } catch (Exception e) {
-                return null;
-            }
+        } catch (Exception e) {
+            return null;
         }
     }
 
@@ -182,8 +559,11 @@ public class V2PipelineService implements PipelineService {
         }
         if (id != null) return id;
 
-        jdbc.update("INSERT INTO keyword(keyword_name) VALUES (?)", keywordName);
-        return jdbc.queryForObject("SELECT LAST_INSERT_ID()", Integer.class);
+        // 여러 워커가 같은 새 키워드를 동시에 넣을 수 있으므로 중복은 무시하고 다시 조회
+        jdbc.update("INSERT IGNORE INTO keyword(keyword_name) VALUES (?)", keywordName);
+        return jdbc.queryForObject(
+                "SELECT keyword_id FROM keyword WHERE keyword_name = ?",
+                Integer.class, keywordName);
     }
 
     private String getHtmlForArticleId(Integer articleId) {
@@ -200,5 +580,12 @@ public class V2PipelineService implements PipelineService {
         }
     }
 
-    private record ArticleInfo(int articleId, String title, String htmlContent) {}
+    private record Preprocessed(int articleId, String text, String tokens, boolean duplicate, boolean failed) {}
+
+    private record ArticleInfo(int articleId, String title, String content, String processedText, String processedTokens) {}
+
+    private record Extracted(ArticleInfo article, int processedContentId, List<RagAiApiCaller.KeywordScore> keywords) {}
+
+    /** 재실행 청크 결과: 마지막으로 본 article_id(다음 커서), 조회한 기사 수, 저장한 키워드 행 수, 키워드를 얻지 못한 기사 수 */
+    public record RerunChunk(int lastArticleId, int articles, int savedKeywords, int skipped, List<Integer> failedIds) {}
 }
@@ -0,0 +1,192 @@
+package com.team.aiarticle.ai_article_backend.service.related;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 키워드 기반 관련 기사 인덱스 (메모리).
+ * - 정방향: article_id → (keyword_id, score) 목록 + 제목
+ * - 역방향: keyword_id → 최근 article_id 링 (키워드당 perKeywordCap개까지만 유지)
+ * 관련도 = 공유 키워드마다 (기준 기사 점수 × 후보 기사 점수 × idf) 합.
+ * 파이프라인이 키워드를 저장할 때 index()로 증분 반영되고, 최초 조회 시 최근 기사들을 한 번 적재한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RelatedArticleIndex {
+
+    private final JdbcTemplate jdbc;
+
+    @Value("${app.related.perKeywordCap:500}")
+    private int perKeywordCap;
+
+    @Value("${app.related.maxArticles:50000}")
+    private int maxArticles;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Integer, Doc> docs = new LinkedHashMap<>(1024, 0.75f, false) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, Doc> eldest) {
+            return size() > Math.max(1000, maxArticles);
+        }
+    };
+    private final Map<Integer, Postings> postings = new HashMap<>();
+    private volatile boolean loaded;
+
+    public record Related(int articleId, String title, double score) {}
+
+    private record Doc(int[] keywordIds, float[] weights, String title) {}
+
+    /** 키워드 하나의 최근 article_id 링 버퍼 */
+    private static final class Postings {
+        final int[] ids;
+        int head;
+        int size;
+
+        Postings(int cap) {
+            ids = new int[cap];
+        }
+
+        void add(int articleId) {
+            ids[head] = articleId;
+            head = (head + 1) % ids.length;
+            if (size < ids.length) size++;
+        }
+
+        // 오래된 것부터 순서를 유지한 채 articleId만 빼고 앞으로 당긴다
+        void remove(int articleId) {
+            int from = (head - size + ids.length) % ids.length;
+            int[] kept = new int[size];
+            int n = 0;
+            for (int j = 0; j < size; j++) {
+                int id = ids[(from + j) % ids.length];
+                if (id != articleId) kept[n++] = id;
+            }
+            System.arraycopy(kept, 0, ids, 0, n);
+            size = n;
+            head = n % ids.length;
+        }
+    }
+
+    /** 기사 하나의 키워드(keyword_id → score)를 인덱스에 반영한다. 같은 기사를 다시 넣으면 빠진/새 키워드의 역방향도 맞춘다. */
+    public void index(int articleId, String title, Map<Integer, Double> keywordScores) {
+        if (keywordScores == null || keywordScores.isEmpty()) return;
+        int[] ids = new int[keywordScores.size()];
+        float[] ws = new float[ids.length];
+        int i = 0;
+        for (Map.Entry<Integer, Double> e : keywordScores.entrySet()) {
+            ids[i] = e.getKey();
+            ws[i++] = e.getValue() != null ? e.getValue().floatValue() : 0f;
+        }
+        lock.writeLock().lock();
+        try {
+            Doc prev = docs.put(articleId, new Doc(ids, ws, title));
+            Set<Integer> before = new HashSet<>();
+            if (prev != null) {
+                for (int kw : prev.keywordIds()) before.add(kw);
+            }
+            Set<Integer> after = new HashSet<>();
+            for (int kw : ids) {
+                after.add(kw);
+                if (!before.contains(kw)) {
+                    postings.computeIfAbsent(kw, k -> new Postings(Math.max(8, perKeywordCap))).add(articleId);
+                }
+            }
+            for (int kw : before) {
+                if (after.contains(kw)) continue;
+                Postings p = postings.get(kw);
+                if (p == null) continue;
+                p.remove(articleId);
+                if (p.size == 0) postings.remove(kw);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<Related> related(int articleId, int limit) {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            Doc base = docs.get(articleId);
+            if (base == null) return List.of();
+
+            double n = Math.max(1, docs.size());
+            Map<Integer, Double> scores = new HashMap<>();
+            for (int i = 0; i < base.keywordIds().length; i++) {
+                Postings p = postings.get(base.keywordIds()[i]);
+                if (p == null || p.size <= 1) continue;
+                double idf = Math.log(1 + n / p.size);
+                double qw = base.weights()[i] * idf;
+                for (int j = 0; j < p.size; j++) {
+                    int cand = p.ids[j];
+                    if (cand == articleId) continue;
+                    Doc d = docs.get(cand);
+                    if (d == null) continue; // 정방향에서 밀려난 기사
+                    float cw = weightOf(d, base.keywordIds()[i]);
+                    if (cw > 0) scores.merge(cand, qw * cw, Double::sum);
+                }
+            }
+
+            List<Related> out = new ArrayList<>(scores.size());
+            scores.forEach((id, s) -> out.add(new Related(id, docs.get(id).title(), s)));
+            out.sort((x, y) -> Double.compare(y.score(), x.score()));
+            return out.size() > limit ? new ArrayList<>(out.subList(0, Math.max(0, limit))) : out;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static float weightOf(Doc d, int keywordId) {
+        int[] ids = d.keywordIds();
+        for (int i = 0; i < ids.length; i++) {
+            if (ids[i] == keywordId) return d.weights()[i];
+        }
+        return 0f;
+    }
+
+    // 최근 기사들의 키워드를 article_id 순으로 한 번에 적재
+    private void ensureLoaded() {
+        if (loaded) return;
+        synchronized (this) {
+            if (loaded) return;
+            Integer minId = jdbc.queryForObject(
+                    "SELECT COALESCE(MAX(article_id), 0) - ? FROM articlev2", Integer.class, Math.max(1000, maxArticles));
+            int[] current = {-1};
+            String[] title = {null};
+            Map<Integer, Double> kws = new LinkedHashMap<>();
+            jdbc.query("""
+                SELECT apc.article_id, a.title, ek.keyword_id, ek.score
+                FROM extracted_keyword_v2 ek
+                JOIN article_processed_content_v2 apc ON apc.processed_content_id = ek.processed_content_id
+                JOIN articlev2 a ON a.article_id = apc.article_id
+                WHERE apc.article_id > ?
+                ORDER BY apc.article_id
+            """, rs -> {
+                int id = rs.getInt(1);
+                if (id != current[0]) {
+                    if (current[0] >= 0) index(current[0], title[0], new LinkedHashMap<>(kws));
+                    kws.clear();
+                    current[0] = id;
+                    title[0] = rs.getString(2);
+                }
+                kws.put(rs.getInt(3), rs.getDouble(4));
+            }, minId != null ? minId : 0);
+            if (current[0] >= 0) index(current[0], title[0], kws);
+            loaded = true;
+            log.info("[RELATED] index loaded: articles={}, keywords={}", docs.size(), postings.size());
+        }
+    }
+}
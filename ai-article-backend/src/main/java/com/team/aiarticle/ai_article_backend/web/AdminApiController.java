@@ -1,6 +1,7 @@
 package com.team.aiarticle.ai_article_backend.web;
 
 import com.team.aiarticle.ai_article_backend.service.TrendAggregationService;
+import com.team.aiarticle.ai_article_backend.service.admin.AdminJobGate;
 import com.team.aiarticle.ai_article_backend.service.pipeline.PipelineService;
 import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
@@ -12,6 +13,7 @@ import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
@@ -27,14 +29,16 @@ public class AdminApiController {
 
     private final PipelineService pipeline;
     private final TrendAggregationService trendAggregationService;
+    private final AdminJobGate gate;
 
     // 실행 인자/프로퍼티로 주입(--admin.token=1234), 비워두면 검사 생략
     @Value("${admin.token:}")
     private String adminToken;
 
-    public AdminApiController(PipelineService pipeline, TrendAggregationService trendAggregationService) {
+    public AdminApiController(PipelineService pipeline, TrendAggregationService trendAggregationService, AdminJobGate gate) {
         this.pipeline = pipeline;
         this.trendAggregationService = trendAggregationService;
+        this.gate = gate;
     }
 
     /** 간단 토큰 검사 */
@@ -51,29 +55,27 @@ public class AdminApiController {
     @GetMapping("/jobs/{job}/status")
     public ResponseEntity<?> jobStatus(@PathVariable String job, HttpServletRequest req) {
         checkToken(req);
-        // TODO: 실제 스케줄러 상태를 조회하도록 교체
-        // 예시로 process_new_articles / tfidf 두 가지만 가정
-        String status = switch (job) {
-            case "process_new_articles" -> "running"; // 샘플 값
-            case "tfidf" -> "idle";                   // 샘플 값
-            default -> "unknown";
-        };
-        return ResponseEntity.ok(Map.of("job", job, "status", status));
+        // paused / running(임대 보유 중) / idle + 임대 노드, 최근 실행 기록
+        Map<String, Object> body = new LinkedHashMap<>(gate.status(job));
+        boolean paused = Boolean.TRUE.equals(body.get("paused"));
+        boolean running = Boolean.TRUE.equals(body.get("running"));
+        body.put("status", paused ? "paused" : running ? "running" : "idle");
+        return ResponseEntity.ok(body);
     }
 
     @PostMapping("/jobs/{job}/pause")
     public ResponseEntity<?> pause(@PathVariable String job, HttpServletRequest req) {
         checkToken(req);
-        // TODO: 실제 스케줄러 일시정지 구현부 연결
         log.info("[ADMIN] pause job={}", job);
+        gate.pause(job);
         return ResponseEntity.ok(Map.of("job", job, "result", "paused"));
     }
 
     @PostMapping("/jobs/{job}/resume")
     public ResponseEntity<?> resume(@PathVariable String job, HttpServletRequest req) {
         checkToken(req);
-        // TODO: 실제 스케줄러 재개 구현부 연결
         log.info("[ADMIN] resume job={}", job);
+        gate.resume(job);
         return ResponseEntity.ok(Map.of("job", job, "result", "resumed"));
     }
 
@@ -181,6 +181,61 @@ async function resumeJob() {
   setStatusChip(false);
 }
 
+/* ---------- 실시간 진행 ---------- */
+function fmtSec(sec) {
+  if (sec == null) return '-';
+  const h = Math.floor(sec / 3600), m = Math.floor((sec % 3600) / 60), s = sec % 60;
+  return h > 0 ? `${h}h ${m}m` : (m > 0 ? `${m}m ${s}s` : `${s}s`);
+}
+
+function renderProgress(list) {
+  const tb = document.querySelector('#progress tbody');
+  if (!tb) return;
+  tb.innerHTML = '';
+  if (!list.length) {
+    tb.innerHTML = '<tr><td colspan="8" class="muted">실행 중인 작업 없음</td></tr>';
+    return;
+  }
+  list.forEach(p => {
+    const pct = p.total ? Math.min(100, Math.round(p.processed * 100 / p.total)) : null;
+    const tr = document.createElement('tr');
+    tr.innerHTML = `<td>${jobMap[p.job] || p.job}</td><td>${p.runId > 0 ? p.runId : '-'}</td>
+      <td class="${p.state === 'SUCCESS' ? 'ok' : (p.state === 'FAILED' ? 'fail' : '')}">${p.state}</td>
+      <td>${p.processed}${p.total != null ? ' / ' + p.total : ''}
+        ${pct != null ? `<div class="bar"><span style="width:${pct}%"></span></div>` : ''}</td>
+      <td>${p.recentPerSec} / ${p.avgPerSec}</td>
+      <td>${fmtSec(p.etaSec)}</td>
+      <td class="${p.errorRate > 0 ? 'fail' : ''}">${(p.errorRate * 100).toFixed(1)}% (${p.errors})</td>
+      <td>${fmtSec(p.elapsedSec)}</td>`;
+    tb.appendChild(tr);
+  });
+}
+
+// SSE 우선, 끊기면 5초 폴링으로 전환
+let progressTimer = null;
+function startProgressPolling() {
+  if (progressTimer) return;
+  const mode = document.getElementById('progressMode');
+  if (mode) mode.textContent = '폴링(5초)';
+  const tick = () => api('/api/admin/progress').then(renderProgress).catch(() => {});
+  tick();
+  progressTimer = setInterval(tick, 5000);
+}
+
+function watchProgress() {
+  const mode = document.getElementById('progressMode');
+  if (!window.EventSource) return startProgressPolling();
+  const es = new EventSource(`/api/admin/progress/stream?token=${encodeURIComponent(TOKEN)}`);
+  es.addEventListener('progress', ev => {
+    if (mode) mode.textContent = '실시간(SSE)';
+    renderProgress(JSON.parse(ev.data));
+  });
+  es.onerror = () => {
+    es.close();
+    startProgressPolling();
+  };
+}
+
 /* ---------- 초기화 ---------- */
 function initUIBindings() {
   document.getElementById('btnPause')?.addEventListener('click', () => pauseJob().catch(e => alert('일시중지 실패: ' + e.message)));
@@ -200,4 +255,5 @@ function initUIBindings() {
   initUIBindings();
   loadRuns().catch(() => {});
   loadJobs().catch(() => {});
+  watchProgress();
 })();
@@ -215,6 +215,33 @@ function HomePage() {
   const [crawlLog, setCrawlLog] = useState<string | null>(null);
   const [crawlStatus, setCrawlStatus] = useState<"idle" | "success" | "error">("idle");
 
+  // signal이 abort되면(3분 타임아웃) 대기/요청을 멈추고 AbortError로 끝낸다
+  const waitForAnalyzeJob = async (jobId: string, signal: AbortSignal) => {
+    while (!signal.aborted) {
+      await new Promise<void>((resolve, reject) => {
+        const timer = setTimeout(resolve, 3000);
+        signal.addEventListener(
+          "abort",
+          () => {
+            clearTimeout(timer);
+            reject(new DOMException("Aborted", "AbortError"));
+          },
+          { once: true }
+        );
+      });
+      const res = await fetch(`${API_BASE_URL}/api/articles/analyze/jobs/${jobId}`, { signal });
+      if (!res.ok) throw new Error(`서버 오류 (${res.status})`);
+      const job = await res.json();
+      if (job.status === "FAILED") throw new Error(job.error || "기사 분석에 실패했습니다.");
+      if (job.status === "DONE") {
+        const articleRes = await fetch(`${API_BASE_URL}/api/article/${job.articleId}`, { signal });
+        if (!articleRes.ok) throw new Error(`서버 오류 (${articleRes.status})`);
+        return articleRes.json();
+      }
+    }
+    throw new DOMException("Aborted", "AbortError");
+  };
+
   const handleAnalyze = async (articleUrl: string) => {
     if (!articleUrl) return;
 
@@ -222,10 +249,11 @@ function HomePage() {
     setAnalysisData(null);
     toast.loading("기사 분석을 시작합니다. 잠시만 기다려주세요...", { id: "analyze" });
 
-    try {
-      const controller = new AbortController();
-      const timeoutId = setTimeout(() => controller.abort(), 180000); // 3분 타임아웃
+    // 3분 타임아웃: 최초 요청과 작업 상태 확인(폴링)을 합친 전체 시간
+    const controller = new AbortController();
+    const timeoutId = setTimeout(() => controller.abort(), 180000);
 
+    try {
       const response = await fetch(`${API_BASE_URL}/api/articles/analyze`, {
         method: "POST",
         headers: {
@@ -235,14 +263,16 @@ function HomePage() {
         signal: controller.signal,
       });
 
-      clearTimeout(timeoutId);
-
       if (!response.ok) {
         const errorData = await response.json().catch(() => ({ error: "알 수 없는 오류" }));
         throw new Error(errorData.error || `서버 오류 (${response.status})`);
       }
 
-      const data = await response.json();
+      let data = await response.json();
+      // 202: 크롤링 작업이 아직 진행 중 → 작업 상태를 주기적으로 확인
+      if (response.status === 202 && data.jobId) {
+        data = await waitForAnalyzeJob(data.jobId, controller.signal);
+      }
       // 백엔드 응답: { article_id, title, publisher, summarize, keywords, keywordDefinitions }
       const analysisResult = {
         articleId: data.article_id,
@@ -270,6 +300,7 @@ function HomePage() {
         description: message,
       });
     } finally {
+      clearTimeout(timeoutId);
       setIsAnalyzing(false);
     }
   };
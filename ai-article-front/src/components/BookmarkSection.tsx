@@ -17,6 +17,9 @@ interface BookmarkSectionProps {
   error: string | null;
   onRemove: (articleId: number) => void;
   onArticleClick: (articleId: number) => void;
+  hasMore?: boolean;
+  isLoadingMore?: boolean;
+  onLoadMore?: () => void;
 }
 
 const loadingPlaceholders = Array.from({ length: 3 });
@@ -27,6 +30,9 @@ export function BookmarkSection({
   error,
   onRemove,
   onArticleClick,
+  hasMore = false,
+  isLoadingMore = false,
+  onLoadMore,
 }: BookmarkSectionProps) {
   return (
     <div className="mt-12 w-full">
@@ -119,6 +125,21 @@ export function BookmarkSection({
           ))}
         </ul>
       )}
+
+      {!isLoading && !error && hasMore && onLoadMore && (
+        <div className="mt-6 text-center">
+          <button
+            onClick={onLoadMore}
+            disabled={isLoadingMore}
+            className={cn(
+              "rounded-lg border bg-white px-6 py-2 text-sm font-medium text-gray-700 shadow-sm transition-colors hover:border-blue-400 hover:text-blue-600",
+              isLoadingMore && "cursor-not-allowed opacity-60"
+            )}
+          >
+            {isLoadingMore ? "불러오는 중..." : "더 보기"}
+          </button>
+        </div>
+      )}
     </div>
   );
 }
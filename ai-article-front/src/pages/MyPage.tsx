@@ -8,6 +8,7 @@ import { BookmarkSection } from "@/components/BookmarkSection";
 import defaultUserImage from "@/image/userimage.png";
 
 type BookmarkedArticle = {
+  bookmarkId?: number;
   articleId: number;
   title: string;
   categoryName?: string;
@@ -22,6 +23,8 @@ type CategoryWithKeywords = {
 };
 
 const MAX_KEYWORDS = 4;
+// 북마크는 최신순 keyset 페이지로 받는다 (서버 최대 200)
+const BOOKMARK_PAGE_SIZE = 50;
 
 type AuthUser = NonNullable<ReturnType<typeof useAuth>["user"]> & {
   nickname?: string;
@@ -263,11 +266,39 @@ const MyPage: React.FC = () => {
   const [bookmarks, setBookmarks] = useState<BookmarkedArticle[]>([]);
   const [bookmarksLoading, setBookmarksLoading] = useState(true);
   const [bookmarksError, setBookmarksError] = useState<string | null>(null);
+  const [hasMoreBookmarks, setHasMoreBookmarks] = useState(false);
+  const [bookmarksLoadingMore, setBookmarksLoadingMore] = useState(false);
+
+  // 북마크 한 페이지 요청 (beforeBookmarkId = 직전 페이지 마지막 bookmarkId)
+  const fetchBookmarkPage = async (
+    token: string,
+    beforeBookmarkId?: number,
+    signal?: AbortSignal
+  ): Promise<BookmarkedArticle[]> => {
+    const params = new URLSearchParams({ limit: String(BOOKMARK_PAGE_SIZE) });
+    if (beforeBookmarkId != null) {
+      params.set("beforeBookmarkId", String(beforeBookmarkId));
+    }
+    const response = await fetch(`${getApiBaseUrl()}/api/mypage/bookmarks?${params}`, {
+      headers: {
+        Authorization: `Bearer ${token}`,
+      },
+      signal,
+    });
+
+    if (!response.ok) {
+      throw new Error("북마크를 불러오지 못했습니다.");
+    }
+
+    const data = await response.json();
+    return Array.isArray(data) ? data : [];
+  };
 
-  // 북마크 목록 불러오기
+  // 북마크 목록 불러오기 (첫 페이지)
   useEffect(() => {
     if (!typedUser?.token) {
       setBookmarks([]);
+      setHasMoreBookmarks(false);
       setBookmarksLoading(false);
       return;
     }
@@ -277,19 +308,9 @@ const MyPage: React.FC = () => {
       try {
         setBookmarksLoading(true);
         setBookmarksError(null);
-        const response = await fetch(`${getApiBaseUrl()}/api/mypage/bookmarks`, {
-          headers: {
-            Authorization: `Bearer ${typedUser.token}`,
-          },
-          signal: controller.signal,
-        });
-
-        if (!response.ok) {
-          throw new Error("북마크를 불러오지 못했습니다.");
-        }
-
-        const data = await response.json();
-        setBookmarks(Array.isArray(data) ? data : []);
+        const page = await fetchBookmarkPage(typedUser.token, undefined, controller.signal);
+        setBookmarks(page);
+        setHasMoreBookmarks(page.length === BOOKMARK_PAGE_SIZE);
       } catch (err) {
         if (err instanceof DOMException && err.name === "AbortError") {
           return;
@@ -305,6 +326,26 @@ const MyPage: React.FC = () => {
     return () => controller.abort();
   }, [typedUser?.token]);
 
+  // 북마크 다음 페이지
+  const handleLoadMoreBookmarks = async () => {
+    const last = bookmarks[bookmarks.length - 1];
+    if (!typedUser?.token || last?.bookmarkId == null || bookmarksLoadingMore) return;
+
+    try {
+      setBookmarksLoadingMore(true);
+      const page = await fetchBookmarkPage(typedUser.token, last.bookmarkId);
+      setBookmarks((prev) => [
+        ...prev,
+        ...page.filter((b) => !prev.some((p) => p.articleId === b.articleId)),
+      ]);
+      setHasMoreBookmarks(page.length === BOOKMARK_PAGE_SIZE);
+    } catch (err) {
+      console.error("Failed to load more bookmarks:", err);
+    } finally {
+      setBookmarksLoadingMore(false);
+    }
+  };
+
   // 북마크 삭제
   const handleRemoveBookmark = async (articleId: number) => {
     if (!typedUser?.token) return;
@@ -437,6 +478,9 @@ const MyPage: React.FC = () => {
           isLoading={bookmarksLoading}
           error={bookmarksError}
           onRemove={handleRemoveBookmark}
+          hasMore={hasMoreBookmarks}
+          isLoadingMore={bookmarksLoadingMore}
+          onLoadMore={handleLoadMoreBookmarks}
           onArticleClick={(articleId) => navigate(`/content/${articleId}`)}
         />
       </div>
@@ -2,6 +2,8 @@
 # -*- coding: utf-8 -*-
 
 import argparse
+import contextlib
+import io
 import json
 import random
 import re
@@ -663,6 +665,37 @@ def crawl_with_api_2_phase(session: requests.Session, cfg: Config, keyword_extra
 # ====================================================================
 # 🚀 엔트리포인트(main)
 # ====================================================================
+# ====================================================================
+# 🔁 워커 모드 (백엔드 CrawlerWorkerPool 전용)
+# ====================================================================
+def run_worker(session: requests.Session, cfg: Config):
+    """stdin으로 {"id", "url"} JSON 한 줄을 받아 처리하고 stdout으로 결과 JSON 한 줄을 돌려준다.
+    인터프리터/세션을 재사용하므로 URL마다 프로세스를 띄우는 비용이 없다."""
+    out = sys.stdout
+    for line in sys.stdin:
+        line = line.strip()
+        if not line:
+            continue
+        try:
+            req = json.loads(line)
+        except ValueError:
+            continue
+        buf = io.StringIO()
+        ok = False
+        title = None
+        # 처리 중 출력(print)은 결과의 log 필드로 모아 프로토콜 라인과 섞이지 않게 한다
+        with contextlib.redirect_stdout(buf):
+            try:
+                result = process_article(session, cfg, {"link": req.get("url")})
+                if result:
+                    title = result["payload"].get("title")
+                    ok = send_to_backend(session, cfg, result["payload"])
+            except Exception as e:
+                print(f"❌ 워커 처리 오류: {e}")
+        out.write(json.dumps({"id": req.get("id"), "ok": ok, "title": title, "log": buf.getvalue()}, ensure_ascii=False) + "\n")
+        out.flush()
+
+
 def main():
     DEFAULTS = Config(
         keywords=["경제", "사회", "IT"],
@@ -685,15 +718,23 @@ def main():
     parser.add_argument("--article-url", default=DEFAULTS.article_url, help="단일 기사 URL 직접 처리")
     parser.add_argument("--wait-min", type=int, default=DEFAULTS.wait_min)
     parser.add_argument("--wait-max", type=int, default=DEFAULTS.wait_max)
+    parser.add_argument("--worker", action="store_true", help="stdin/stdout JSON 라인 워커 모드")
 
     args = parser.parse_args()
     
-    cli_args = {k: v for k, v in vars(args).items() if v is not None}
+    cli_args = {k: v for k, v in vars(args).items() if v is not None and k != "worker"}
     if not args.loop: #
         cli_args['loop'] = DEFAULTS.loop
     cfg = replace(DEFAULTS, **cli_args)
     
-    if not NAVER_CLIENT_ID or not NAVER_CLIENT_SECRET:
+    # 워커/단일 기사 모드는 네이버 API와 키워드 추출기가 필요 없다
+    if args.worker:
+        run_worker(create_session(cfg), cfg)
+        return
+    if cfg.article_url:
+        cfg = replace(cfg, total_phases=1)
+
+    if not cfg.article_url and (not NAVER_CLIENT_ID or not NAVER_CLIENT_SECRET):
         print("🚨 네이버 API 키가 설정되지 않았습니다. NAVER_CLIENT_ID, NAVER_CLIENT_SECRET 환경변수를 설정해주세요.")
         sys.exit(1)
 
@@ -712,7 +753,7 @@ def main():
     def crawl_job():
         if cfg.article_url:
             print("▶ 단일 기사 모드 실행")
-            result = process_article(session, cfg, {"originallink": cfg.article_url})
+            result = process_article(session, cfg, {"link": cfg.article_url})
             if result:
                 send_to_backend(session, cfg, result["payload"])
         else: